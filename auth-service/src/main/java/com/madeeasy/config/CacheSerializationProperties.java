@@ -0,0 +1,28 @@
+package com.madeeasy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.serialization")
+public class CacheSerializationProperties {
+
+    public enum Format {
+        /**
+         * Verbose JSON with fully qualified class names, readable with redis-cli.
+         */
+        JSON,
+        /**
+         * Binary Smile encoding of the same Jackson model, optionally compressed.
+         */
+        SMILE
+    }
+
+    private Format format = Format.SMILE;
+    /**
+     * Values larger than this many bytes are deflated, a negative value disables compression.
+     */
+    private int compressionThreshold = 1024;
+}
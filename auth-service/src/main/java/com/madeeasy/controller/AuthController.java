@@ -3,13 +3,18 @@ package com.madeeasy.controller;
 
 import com.madeeasy.dto.request.AuthRequest;
 import com.madeeasy.dto.request.LogOutRequest;
+import com.madeeasy.dto.request.RefreshTokenRequest;
 import com.madeeasy.dto.request.SignInRequestDTO;
+import com.madeeasy.dto.request.TokenRequest;
 import com.madeeasy.dto.request.UserRequest;
 import com.madeeasy.dto.response.AuthResponse;
+import com.madeeasy.security.ratelimit.LoginAttemptGuard;
 import com.madeeasy.service.AuthService;
 import com.madeeasy.util.ValidationUtils;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +27,7 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginAttemptGuard loginAttemptGuard;
 
 
     @PostMapping(path = "/sign-up")
@@ -39,7 +45,9 @@ public class AuthController {
     }
 
     @PostMapping(path = "/sign-in")
-    public ResponseEntity<?> singIn(@Valid @RequestBody SignInRequestDTO signInRequestDTO) {
+    public ResponseEntity<?> singIn(@Valid @RequestBody SignInRequestDTO signInRequestDTO,
+                                    HttpServletRequest request) {
+        this.loginAttemptGuard.checkSignInAllowed(signInRequestDTO.getEmail(), request);
         AuthResponse authResponse = this.authService.singIn(signInRequestDTO);
         return ResponseEntity.ok().body(authResponse);
     }
@@ -76,6 +84,16 @@ public class AuthController {
         return ResponseEntity.ok().body(authResponse);
     }
 
+    /**
+     * Body based variant of {@link #refreshToken(String)}, keeps the token out of the request path
+     * so it is neither URL decoded nor written to access logs.
+     */
+    @PostMapping(path = "/refresh-token")
+    public ResponseEntity<?> refreshToken(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
+        AuthResponse authResponse = this.authService.refreshToken(refreshTokenRequest.getRefreshToken());
+        return ResponseEntity.ok().body(authResponse);
+    }
+
     @PostMapping(path = "/validate-access-token/{accessToken}")
     public ResponseEntity<?> validateAccessToken(@PathVariable("accessToken") String accessToken) {
         Map<String, String> validatedAccessToken = ValidationUtils.validateAccessToken(accessToken);
@@ -88,4 +106,25 @@ public class AuthController {
         }
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(false);
     }
+
+    /**
+     * Header based variant of {@link #validateAccessToken(String)} used by the other services'
+     * JwtAuthenticationFilter, the token is read from the Authorization header instead of the path.
+     */
+    @PostMapping(path = "/validate-access-token")
+    public ResponseEntity<?> validateAccessTokenFromHeader(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        if (!authorizationHeader.startsWith("Bearer ")) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("Token", "Authorization header must start with 'Bearer '"));
+        }
+        return validateAccessToken(authorizationHeader.substring(7));
+    }
+
+    /**
+     * Validates several access tokens in one call, the response maps every token to its validity.
+     */
+    @PostMapping(path = "/validate-access-tokens")
+    public ResponseEntity<?> validateAccessTokens(@Valid @RequestBody TokenRequest tokenRequest) {
+        Map<String, Boolean> validatedTokens = this.authService.validateAccessTokens(tokenRequest.getTokens());
+        return ResponseEntity.ok().body(validatedTokens);
+    }
 }
@@ -0,0 +1,22 @@
+package com.madeeasy.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "refreshToken cannot be blank")
+    @Pattern(
+            regexp = "^[A-Za-z0-9-_]+\\.[A-Za-z0-9-_]+\\.[A-Za-z0-9-_]+$",
+            message = "Invalid refresh token format."
+    )
+    private String refreshToken;
+}
@@ -0,0 +1,25 @@
+package com.madeeasy.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenRequest {
+
+    @NotEmpty(message = "tokens cannot be empty")
+    @Size(max = 100, message = "at most 100 tokens can be validated in a single request")
+    private List<@Pattern(
+            regexp = "^[A-Za-z0-9-_]+\\.[A-Za-z0-9-_]+\\.[A-Za-z0-9-_]+$",
+            message = "Invalid token format."
+    ) String> tokens;
+}
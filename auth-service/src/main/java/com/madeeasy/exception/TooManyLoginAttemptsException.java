@@ -0,0 +1,8 @@
+package com.madeeasy.exception;
+
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    public TooManyLoginAttemptsException(String message) {
+        super(message);
+    }
+}
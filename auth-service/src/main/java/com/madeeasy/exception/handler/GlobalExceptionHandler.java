@@ -3,6 +3,7 @@ package com.madeeasy.exception.handler;
 
 import com.madeeasy.exception.ClientException;
 import com.madeeasy.exception.TokenException;
+import com.madeeasy.exception.TooManyLoginAttemptsException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
@@ -154,6 +155,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(responseBody);
     }
 
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyLoginAttemptsException(TooManyLoginAttemptsException exception) {
+        Map<String, Object> responseBody = Map.of(
+                "status", HttpStatus.TOO_MANY_REQUESTS,
+                "message", exception.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(responseBody);
+    }
+
     @ExceptionHandler(TokenException.class)
     public ResponseEntity<Map<String, Object>> handleTokenException(TokenException exception) {
         System.out.println("Inside tokenException handler: " + exception);
@@ -4,6 +4,7 @@ import com.madeeasy.entity.Token;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +14,6 @@ public interface TokenRepository extends JpaRepository<Token, String> {
     List<Token> findAllValidTokens(String id);
 
     Optional<Token> findByToken(String token);
+
+    List<Token> findByTokenIn(Collection<String> tokens);
 }
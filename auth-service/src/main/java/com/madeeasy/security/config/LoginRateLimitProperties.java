@@ -0,0 +1,32 @@
+package com.madeeasy.security.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@RefreshScope
+@ConfigurationProperties(prefix = "auth.login-rate-limit")
+public class LoginRateLimitProperties {
+    private boolean enabled = true;
+    /**
+     * Backing store of the sliding windows, either {@code memory} (per instance) or {@code redis} (shared).
+     */
+    private String store = "memory";
+    private int maxAttemptsPerEmail = 5;
+    private Duration emailWindow = Duration.ofMinutes(1);
+    private int maxAttemptsPerIp = 20;
+    private Duration ipWindow = Duration.ofMinutes(1);
+    /**
+     * Addresses of the proxies in front of this service, such as the gateway. Only hops appended by them are
+     * trusted in {@code X-Forwarded-For}, defaults to loopback and private networks.
+     */
+    private String trustedProxies = "127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|0:0:0:0:0:0:0:1|::1"
+            + "|10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}"
+            + "|192\\.168\\.\\d{1,3}\\.\\d{1,3}"
+            + "|172\\.(1[6-9]|2[0-9]|3[0-1])\\.\\d{1,3}\\.\\d{1,3}";
+}
@@ -0,0 +1,60 @@
+package com.madeeasy.security.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sliding window log kept in the local heap, limits are enforced per auth-service instance.
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.login-rate-limit", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginRateLimiter implements LoginRateLimiter {
+
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicInteger callsSinceSweep = new AtomicInteger();
+
+    @Override
+    public boolean tryAcquire(String key, int maxAttempts, Duration window) {
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+
+        if (callsSinceSweep.incrementAndGet() >= SWEEP_INTERVAL) {
+            callsSinceSweep.set(0);
+            // Drop keys without any attempt left in their window so the map does not grow unbounded
+            windows.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+        }
+
+        Window slidingWindow = windows.computeIfAbsent(key, k -> new Window());
+        return slidingWindow.tryAcquire(now, windowMillis, maxAttempts);
+    }
+
+    private static final class Window {
+        private final Deque<Long> attempts = new ArrayDeque<>();
+        private long expiresAt;
+
+        synchronized boolean tryAcquire(long now, long windowMillis, int maxAttempts) {
+            while (!attempts.isEmpty() && attempts.peekFirst() <= now - windowMillis) {
+                attempts.pollFirst();
+            }
+            if (attempts.size() >= maxAttempts) {
+                return false;
+            }
+            attempts.addLast(now);
+            expiresAt = now + windowMillis;
+            return true;
+        }
+
+        synchronized boolean isIdle(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.madeeasy.security.ratelimit;
+
+import com.madeeasy.exception.TooManyLoginAttemptsException;
+import com.madeeasy.security.config.LoginRateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Rejects sign-in attempts exceeding the per-email or per-IP sliding window before any
+ * password hashing is done, so credential stuffing traffic does not burn BCrypt CPU.
+ */
+@Slf4j
+@Component
+public class LoginAttemptGuard {
+
+    private static final String REJECTED_METRIC = "auth.sign-in.rejected";
+
+    private final LoginRateLimiter loginRateLimiter;
+    private final LoginRateLimitProperties properties;
+    private final Counter rejectedByEmail;
+    private final Counter rejectedByIp;
+    // Compiled once, and again only when a configuration refresh changes the expression
+    private volatile Pattern trustedProxies;
+
+    public LoginAttemptGuard(LoginRateLimiter loginRateLimiter,
+                             LoginRateLimitProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.loginRateLimiter = loginRateLimiter;
+        this.properties = properties;
+        this.rejectedByEmail = Counter.builder(REJECTED_METRIC)
+                .description("Sign-in attempts rejected by the login rate limiter")
+                .tag("reason", "email")
+                .register(meterRegistry);
+        this.rejectedByIp = Counter.builder(REJECTED_METRIC)
+                .description("Sign-in attempts rejected by the login rate limiter")
+                .tag("reason", "ip")
+                .register(meterRegistry);
+        this.trustedProxies = Pattern.compile(properties.getTrustedProxies());
+    }
+
+    public void checkSignInAllowed(String email, HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        String clientIp = resolveClientIp(request);
+        if (!loginRateLimiter.tryAcquire("ip:" + clientIp, properties.getMaxAttemptsPerIp(), properties.getIpWindow())) {
+            rejectedByIp.increment();
+            log.warn("Sign-in rejected for ip : {}, too many attempts", clientIp);
+            throw new TooManyLoginAttemptsException("Too many sign-in attempts. Please try again later.");
+        }
+
+        String normalizedEmail = email.trim().toLowerCase(Locale.ROOT);
+        if (!loginRateLimiter.tryAcquire("email:" + normalizedEmail, properties.getMaxAttemptsPerEmail(), properties.getEmailWindow())) {
+            rejectedByEmail.increment();
+            log.warn("Sign-in rejected for email : {}, too many attempts", normalizedEmail);
+            throw new TooManyLoginAttemptsException("Too many sign-in attempts. Please try again later.");
+        }
+    }
+
+    private Pattern trustedProxies() {
+        Pattern pattern = trustedProxies;
+        String configured = properties.getTrustedProxies();
+        if (!pattern.pattern().equals(configured)) {
+            pattern = Pattern.compile(configured);
+            trustedProxies = pattern;
+        }
+        return pattern;
+    }
+
+    /**
+     * The client is the last address not belonging to a trusted proxy. Entries left of it were sent by the
+     * client itself and could be anything, so {@code X-Forwarded-For} is walked from the right and only
+     * while the hops were appended by trusted proxies.
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        Pattern trustedProxies = trustedProxies();
+        String clientIp = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (!StringUtils.hasText(forwardedFor)) {
+            return clientIp;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0 && trustedProxies.matcher(clientIp).matches(); i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty()) {
+                clientIp = hop;
+            }
+        }
+        return clientIp;
+    }
+}
@@ -0,0 +1,14 @@
+package com.madeeasy.security.ratelimit;
+
+import java.time.Duration;
+
+public interface LoginRateLimiter {
+
+    /**
+     * Records an attempt for the given key if fewer than {@code maxAttempts} attempts were
+     * recorded within the sliding {@code window}.
+     *
+     * @return true if the attempt is allowed, false if it must be rejected.
+     */
+    boolean tryAcquire(String key, int maxAttempts, Duration window);
+}
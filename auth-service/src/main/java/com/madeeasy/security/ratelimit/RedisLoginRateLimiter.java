@@ -0,0 +1,46 @@
+package com.madeeasy.security.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sliding window log stored in a Redis sorted set, limits are shared by all auth-service instances.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auth.login-rate-limit", name = "store", havingValue = "redis")
+public class RedisLoginRateLimiter implements LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "login-rate-limit:";
+
+    // Trim the window, count what is left and record the attempt atomically in one round trip
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, tonumber(ARGV[1]) - tonumber(ARGV[2])) " +
+                    "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then return 0 end " +
+                    "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[4]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public boolean tryAcquire(String key, int maxAttempts, Duration window) {
+        Long allowed = stringRedisTemplate.execute(
+                SLIDING_WINDOW_SCRIPT,
+                List.of(KEY_PREFIX + key),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(window.toMillis()),
+                String.valueOf(maxAttempts),
+                UUID.randomUUID().toString());
+        return allowed != null && allowed == 1L;
+    }
+}
@@ -7,6 +7,9 @@ import com.madeeasy.dto.request.UserRequest;
 import com.madeeasy.dto.response.AuthResponse;
 import com.madeeasy.entity.User;
 
+import java.util.List;
+import java.util.Map;
+
 public interface AuthService {
     AuthResponse singUp(AuthRequest authRequest);
 
@@ -18,6 +21,8 @@ public interface AuthService {
 
     boolean validateAccessToken(String accessToken);
 
+    Map<String, Boolean> validateAccessTokens(List<String> accessTokens);
+
     AuthResponse partiallyUpdateUser(String emailId, UserRequest userRequest);
 
     AuthResponse refreshToken(String refreshToken);
@@ -37,10 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -299,6 +296,21 @@ public class AuthServiceImpl implements AuthService {
         return !token.isExpired() && !token.isRevoked();
     }
 
+    @Override
+    public Map<String, Boolean> validateAccessTokens(List<String> accessTokens) {
+        // Resolve all tokens with a single query instead of one round trip per token
+        Map<String, Token> foundTokens = tokenRepository.findByTokenIn(new HashSet<>(accessTokens)).stream()
+                .collect(Collectors.toMap(Token::getToken, token -> token, (first, second) -> first));
+
+        // Keep the response in request order; unknown tokens are reported as invalid
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        accessTokens.forEach(accessToken -> {
+            Token token = foundTokens.get(accessToken);
+            result.put(accessToken, token != null && !token.isExpired() && !token.isRevoked());
+        });
+        return result;
+    }
+
     @Override
     @Caching(evict = {
             @CacheEvict(value = AUTH, key = "#userRequest.email + ':accessToken'"),
@@ -0,0 +1,104 @@
+package com.madeeasy.cache;
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.madeeasy.dto.response.AuthResponse;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round trips every value type cached by this service through {@link CompactRedisSerializer} and compares
+ * payload size and serialization time with the JSON serializer it replaces.
+ */
+class CompactRedisSerializerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactRedisSerializerTest.class);
+    private static final int COMPRESSION_THRESHOLD = 1024;
+    private static final int ITERATIONS = 2_000;
+
+    private final CompactRedisSerializer compact = new CompactRedisSerializer(COMPRESSION_THRESHOLD);
+    private final RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer()
+            .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+
+    @Test
+    void tokenValidation() {
+        assertRoundTrip(Boolean.TRUE);
+        assertRoundTrip(Boolean.FALSE);
+    }
+
+    @Test
+    void refreshedTokens() {
+        assertRoundTrip(AuthResponse.builder()
+                .accessToken("eyJhbGciOiJIUzI1NiJ9.access.signature")
+                .refreshToken("eyJhbGciOiJIUzI1NiJ9.refresh.signature")
+                .status(HttpStatus.OK)
+                .message("Token refreshed")
+                .build());
+    }
+
+    @Test
+    void nullAndEmptyValues() {
+        assertThat(compact.serialize(null)).isEmpty();
+        assertThat(compact.deserialize(null)).isNull();
+        assertThat(compact.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void largeValuesAreDeflatedAndReadBack() {
+        Object value = responses(100);
+
+        byte[] bytes = compact.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(compact.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void smallerThanJson() {
+        Object value = responses(100);
+
+        int compactSize = compact.serialize(value).length;
+        int jsonSize = json.serialize(value).length;
+        log.info("Payload size : compact {} bytes, json {} bytes", compactSize, jsonSize);
+        log.info("Serialization round trip : compact {} us, json {} us", averageMicros(compact, value), averageMicros(json, value));
+
+        assertThat(compactSize).isLessThan(jsonSize);
+    }
+
+    private void assertRoundTrip(Object value) {
+        assertThat(compact.deserialize(compact.serialize(value))).isEqualTo(value);
+    }
+
+    // Average time of one write and read, after a warm-up of the same length
+    private static long averageMicros(RedisSerializer<Object> serializer, Object value) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000;
+    }
+
+    private static List<AuthResponse> responses(int count) {
+        List<AuthResponse> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            responses.add(AuthResponse.builder()
+                    .accessToken("eyJhbGciOiJIUzI1NiJ9.access-" + i + ".signature")
+                    .refreshToken("eyJhbGciOiJIUzI1NiJ9.refresh-" + i + ".signature")
+                    .status(HttpStatus.OK)
+                    .message("Token refreshed")
+                    .build());
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,150 @@
+package com.madeeasy.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Read-through lookup of many entries of one cache at once, for callers that would otherwise issue one
+ * cache round trip and one query per key.
+ * <p>
+ * -> Keys held by the in-process tier are answered locally.
+ * -> The rest is read from Redis with a single {@code MGET}.
+ * -> Remaining misses are handed to the loader in one call and written back in one pipeline, with the cache TTL.
+ * <p>
+ * Keys and values are encoded exactly like {@link RedisCache} does, so entries are shared with {@code @Cacheable}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchCacheLoader {
+
+    private final CacheManager cacheManager;
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    /**
+     * @return the found entries, keys unknown to both the cache and the loader are absent
+     */
+    public <K, V> Map<K, V> getAll(String cacheName, Collection<K> keys, Class<V> type,
+                                   Function<Collection<K>, Map<K, V>> loader) {
+        Map<K, V> found = new LinkedHashMap<>();
+        Cache cache = cacheManager.getCache(cacheName);
+        TwoLevelCache twoLevelCache = cache instanceof TwoLevelCache twoLevel ? twoLevel : null;
+        Cache remoteCache = twoLevelCache != null ? twoLevelCache.getRemoteCache() : cache;
+
+        List<K> remoteKeys = new ArrayList<>();
+        for (K key : keys) {
+            Cache.ValueWrapper local = twoLevelCache != null ? twoLevelCache.getLocal(key) : null;
+            if (local != null && type.isInstance(local.get())) {
+                found.put(key, type.cast(local.get()));
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+
+        List<K> missingKeys = new ArrayList<>();
+        if (remoteCache instanceof RedisCache redisCache) {
+            readRemote(redisCache, remoteKeys, type, found, missingKeys);
+        } else {
+            missingKeys.addAll(remoteKeys);
+        }
+        if (twoLevelCache != null) {
+            remoteKeys.stream()
+                    .filter(found::containsKey)
+                    .forEach(key -> twoLevelCache.putLocal(key, found.get(key)));
+        }
+
+        if (!missingKeys.isEmpty()) {
+            Map<K, V> loaded = loader.apply(missingKeys);
+            found.putAll(loaded);
+            if (remoteCache instanceof RedisCache redisCache) {
+                writeRemote(redisCache, loaded);
+            } else if (remoteCache != null) {
+                loaded.forEach(remoteCache::put);
+            }
+            if (twoLevelCache != null) {
+                loaded.forEach(twoLevelCache::putLocal);
+            }
+        }
+        return found;
+    }
+
+    private <K, V> void readRemote(RedisCache cache, List<K> keys, Class<V> type, Map<K, V> found, List<K> missingKeys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        byte[][] redisKeys = keys.stream()
+                .map(key -> redisKey(cache, key))
+                .toArray(byte[][]::new);
+
+        List<byte[]> values;
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(redisKeys);
+        } catch (Exception e) {
+            // Treat an unavailable cache as a miss, the loader still answers
+            log.warn("Failed to read {} keys from cache : {}, message : {}", keys.size(), cache.getName(), e.getMessage());
+            missingKeys.addAll(keys);
+            return;
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] value = values == null ? null : values.get(i);
+            Object cached = value == null ? null : configuration.getValueSerializationPair().read(ByteBuffer.wrap(value));
+            if (cached != null && !(cached instanceof NullValue) && type.isInstance(cached)) {
+                found.put(keys.get(i), type.cast(cached));
+            } else {
+                missingKeys.add(keys.get(i));
+            }
+        }
+    }
+
+    private <K, V> void writeRemote(RedisCache cache, Map<K, V> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.openPipeline();
+            entries.forEach((key, value) -> {
+                Duration ttl = configuration.getTtlFunction().getTimeToLive(key, value);
+                connection.stringCommands().set(
+                        redisKey(cache, key),
+                        ByteUtils.getBytes(configuration.getValueSerializationPair().write(value)),
+                        ttl == null || ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl),
+                        RedisStringCommands.SetOption.upsert());
+            });
+            connection.closePipeline();
+        } catch (Exception e) {
+            log.warn("Failed to write {} entries to cache : {}, message : {}", entries.size(), cache.getName(), e.getMessage());
+        }
+    }
+
+    private static byte[] redisKey(RedisCache cache, Object key) {
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        String cacheKey = configuration.getConversionService().convert(key, String.class);
+        if (configuration.usePrefix()) {
+            cacheKey = configuration.getKeyPrefixFor(cache.getName()) + cacheKey;
+        }
+        return ByteUtils.getBytes(configuration.getKeySerializationPair().write(cacheKey));
+    }
+}
@@ -0,0 +1,49 @@
+package com.madeeasy.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared generation numbers for caches whose entries can't be evicted one by one, such as list pages.
+ * <p>
+ * The current generation is part of every cache key, so bumping it after a write makes all readers,
+ * on every instance, miss and rebuild under the new generation. Superseded entries are never read
+ * again and are reclaimed by the cache TTL instead of a blocking {@code allEntries} eviction.
+ * <p>
+ * Generations also serve as ETags, so a counter lost to a Redis flush or failover is not restarted at 0 but
+ * seeded from the clock, {@value #SEED_PER_MILLISECOND} generations per millisecond. It starts above every
+ * value handed out before, and an old ETag never matches different content.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheGenerationCounter {
+
+    private static final String KEY_PREFIX = "cache-generation:";
+    private static final long SEED_PER_MILLISECOND = 1000L;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long current(String cacheName) {
+        String generation = stringRedisTemplate.opsForValue().get(KEY_PREFIX + cacheName);
+        if (generation == null) {
+            seed(cacheName);
+            generation = stringRedisTemplate.opsForValue().get(KEY_PREFIX + cacheName);
+        }
+        return generation == null ? 0L : Long.parseLong(generation);
+    }
+
+    public long increment(String cacheName) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + cacheName))) {
+            seed(cacheName);
+        }
+        Long generation = stringRedisTemplate.opsForValue().increment(KEY_PREFIX + cacheName);
+        return generation == null ? 0L : generation;
+    }
+
+    // Only the first of concurrent seeders wins, the others read or increment its value
+    private void seed(String cacheName) {
+        stringRedisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + cacheName,
+                String.valueOf(System.currentTimeMillis() * SEED_PER_MILLISECOND));
+    }
+}
@@ -0,0 +1,30 @@
+package com.madeeasy.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * Broadcast over Spring Cloud Bus when a near-cache entry is evicted, so the other course-service
+ * instances drop their in-process copy too. A {@code null} key means the whole cache was cleared.
+ */
+@Getter
+@Setter
+public class CacheInvalidationEvent extends RemoteApplicationEvent {
+
+    private String cacheName;
+    private String key;
+
+    @SuppressWarnings("unused")
+    public CacheInvalidationEvent() {
+        // for deserialization
+    }
+
+    public CacheInvalidationEvent(Object source, String originService, Destination destination,
+                                  String cacheName, String key) {
+        super(source, originService, destination);
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+}
@@ -0,0 +1,26 @@
+package com.madeeasy.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+
+    private final TwoLevelCacheManager twoLevelCacheManager;
+    private final BusProperties busProperties;
+
+    @EventListener
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        if (busProperties.getId().equals(event.getOriginService())) {
+            // Already evicted locally when the event was published
+            return;
+        }
+        log.debug("Invalidating near cache : {} key : {} on request of {}", event.getCacheName(), event.getKey(), event.getOriginService());
+        twoLevelCacheManager.invalidateLocal(event.getCacheName(), event.getKey());
+    }
+}
@@ -0,0 +1,32 @@
+package com.madeeasy.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final BusProperties busProperties;
+    private final Destination.Factory destinationFactory;
+
+    public void publish(String cacheName, String key) {
+        try {
+            applicationEventPublisher.publishEvent(new CacheInvalidationEvent(
+                    this,
+                    busProperties.getId(),
+                    destinationFactory.getDestination(null),
+                    cacheName,
+                    key));
+        } catch (Exception e) {
+            // The near cache TTL still bounds staleness on the other instances
+            log.warn("Failed to broadcast invalidation of cache : {} key : {}, message : {}", cacheName, key, e.getMessage());
+        }
+    }
+}
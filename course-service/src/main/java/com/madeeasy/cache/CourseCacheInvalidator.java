@@ -0,0 +1,52 @@
+package com.madeeasy.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single place that knows which cache entries a course write invalidates.
+ * <p>
+ * -> A course is cached under both its id and its course code, the two keys are always evicted together.
+ * -> The full list and the keyset pages are versioned by {@link CacheGenerationCounter}, a write only
+ * bumps the generation so no cache is ever flushed wholesale.
+ * <p>
+ * Callers should invoke these methods after the write has committed, otherwise a concurrent reader may
+ * cache the old state again under the fresh key.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseCacheInvalidator {
+
+    public static final String COURSE = "course";
+    public static final String COURSE_BY_CODE = "courseByCode";
+    public static final String COURSE_PAGE = "coursePage";
+
+    private final CacheManager cacheManager;
+    private final CacheGenerationCounter cacheGenerationCounter;
+
+    public long listGeneration() {
+        return cacheGenerationCounter.current(COURSE_PAGE);
+    }
+
+    public void coursesChanged() {
+        long generation = cacheGenerationCounter.increment(COURSE_PAGE);
+        log.debug("Course list generation bumped to : {}", generation);
+    }
+
+    public void courseRemoved(Long id, String courseCode) {
+        evict(COURSE, id);
+        evict(COURSE_BY_CODE, courseCode);
+        coursesChanged();
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.madeeasy.cache;
+
+import com.madeeasy.config.StampedeProtectionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Loads expensive cache entries so that a miss or an expiry never makes every caller hit the database.
+ * <p>
+ * -> Within an instance concurrent callers for the same key share one load.
+ * -> Across instances only the holder of a short Redis lease loads, the others wait for the cached value.
+ * -> Entries are refreshed probabilistically shortly before they go stale (XFetch), by a single lease holder,
+ * while everybody else keeps being served the current value.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SingleFlightCacheLoader {
+
+    private static final String LEASE_PREFIX = "cache-lease:";
+
+    // Only the lease owner may release it
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StampedeProtectionProperties properties;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, String key, Supplier<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        CacheEnvelope envelope = readEnvelope(cache, key);
+        if (envelope != null) {
+            if (shouldRefreshEarly(envelope)) {
+                String leaseToken = tryAcquireLease(cacheName, key);
+                if (leaseToken != null) {
+                    try {
+                        return (T) singleFlight(cacheName, key, () -> loadAndPut(cache, key, loader));
+                    } finally {
+                        releaseLease(cacheName, key, leaseToken);
+                    }
+                }
+            }
+            return (T) envelope.getValue();
+        }
+
+        return (T) singleFlight(cacheName, key, () -> loadAcrossInstances(cache, cacheName, key, loader));
+    }
+
+    private Object singleFlight(String cacheName, String key, Supplier<Object> load) {
+        String flightKey = cacheName + "::" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            Object value = load.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Object loadAcrossInstances(Cache cache, String cacheName, String key, Supplier<?> loader) {
+        String leaseToken = tryAcquireLease(cacheName, key);
+        if (leaseToken != null) {
+            try {
+                return loadAndPut(cache, key, loader);
+            } finally {
+                releaseLease(cacheName, key, leaseToken);
+            }
+        }
+
+        // Another instance is loading, wait for its result instead of querying the database as well
+        long deadline = System.currentTimeMillis() + properties.getWaitTimeout().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(properties.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            CacheEnvelope envelope = readEnvelope(cache, key);
+            if (envelope != null) {
+                return envelope.getValue();
+            }
+        }
+        log.warn("Timed out waiting for cache : {} key : {} to be loaded by another instance", cacheName, key);
+        return loadAndPut(cache, key, loader);
+    }
+
+    private Object loadAndPut(Cache cache, String key, Supplier<?> loader) {
+        long start = System.currentTimeMillis();
+        Object value = loader.get();
+        long now = System.currentTimeMillis();
+        cache.put(key, new CacheEnvelope(value, now - start, now + properties.getSoftTtl().toMillis()));
+        return value;
+    }
+
+    /**
+     * XFetch: the closer the entry is to going stale and the longer it took to compute,
+     * the more likely a caller refreshes it ahead of time.
+     */
+    private boolean shouldRefreshEarly(CacheEnvelope envelope) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        double earlyBy = -envelope.getComputeMillis() * properties.getBeta() * Math.log(random);
+        return System.currentTimeMillis() + earlyBy >= envelope.getStaleAt();
+    }
+
+    private static CacheEnvelope readEnvelope(Cache cache, String key) {
+        Cache.ValueWrapper wrapper = cache.get(key);
+        if (wrapper != null && wrapper.get() instanceof CacheEnvelope envelope) {
+            return envelope;
+        }
+        return null;
+    }
+
+    private String tryAcquireLease(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_PREFIX + cacheName + ":" + key, token, properties.getLeaseTtl());
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            // Without Redis there is nobody to coordinate with, load locally
+            log.warn("Failed to acquire cache lease for cache : {} key : {}, message : {}", cacheName, key, e.getMessage());
+            return token;
+        }
+    }
+
+    private void releaseLease(String cacheName, String key, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(LEASE_PREFIX + cacheName + ":" + key), token);
+        } catch (Exception e) {
+            log.warn("Failed to release cache lease for cache : {} key : {}, message : {}", cacheName, key, e.getMessage());
+        }
+    }
+}
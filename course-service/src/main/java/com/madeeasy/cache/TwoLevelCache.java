@@ -0,0 +1,120 @@
+package com.madeeasy.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with a small in-process tier (L1) in front of the shared Redis cache (L2).
+ * <p>
+ * Reads are served from L1 when possible and fill L1 from L2 on a miss. Writes go to both tiers,
+ * evictions remove the entry from both tiers and are broadcast so other instances drop their L1 copy.
+ * L1 keys are the string form of the cache key, which is also what travels in the broadcast.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public TwoLevelCache(com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache,
+                         Cache remoteCache,
+                         CacheInvalidationPublisher invalidationPublisher) {
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = String.valueOf(key);
+        ValueWrapper value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+        value = remoteCache.get(key);
+        if (value != null) {
+            localCache.put(localKey, new SimpleValueWrapper(value.get()));
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object storedValue = value.get();
+        if (storedValue != null && type != null && !type.isInstance(storedValue)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + storedValue);
+        }
+        return (T) storedValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = String.valueOf(key);
+        ValueWrapper value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return (T) value.get();
+        }
+        T loaded = remoteCache.get(key, valueLoader);
+        localCache.put(localKey, new SimpleValueWrapper(loaded));
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        localCache.put(String.valueOf(key), new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        String localKey = String.valueOf(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.publish(getName(), localKey);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publish(getName(), null);
+    }
+
+    Cache getRemoteCache() {
+        return remoteCache;
+    }
+
+    ValueWrapper getLocal(Object key) {
+        return localCache.getIfPresent(String.valueOf(key));
+    }
+
+    void putLocal(Object key, Object value) {
+        localCache.put(String.valueOf(key), new SimpleValueWrapper(value));
+    }
+
+    void invalidateLocal(String key) {
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+}
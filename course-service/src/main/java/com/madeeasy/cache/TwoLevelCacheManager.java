@@ -0,0 +1,67 @@
+package com.madeeasy.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.madeeasy.config.NearCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps the Redis cache manager and puts an in-process tier in front of the caches listed in
+ * {@code course.cache.near.cache-names}. Other caches are served by Redis only.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final NearCacheProperties properties;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                NearCacheProperties properties,
+                                CacheInvalidationPublisher invalidationPublisher) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!properties.isEnabled() || !properties.getCacheNames().contains(name)) {
+            return remoteCacheManager.getCache(name);
+        }
+        TwoLevelCache cache = twoLevelCaches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return twoLevelCaches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfterWrite(properties.getExpireAfterWrite())
+                        .build(),
+                remoteCache,
+                invalidationPublisher));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * Drops an entry from this instance's in-process tier only, used for invalidations received from other instances.
+     */
+    public void invalidateLocal(String cacheName, String key) {
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        if (cache != null) {
+            cache.invalidateLocal(key);
+        }
+    }
+}
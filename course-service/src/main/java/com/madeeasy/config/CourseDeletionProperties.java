@@ -0,0 +1,21 @@
+package com.madeeasy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "course.deletion")
+public class CourseDeletionProperties {
+    /**
+     * A pending deletion is announced again when instance-service has not confirmed it within this time.
+     */
+    private Duration republishAfter = Duration.ofSeconds(30);
+    /**
+     * Upper bound of pending deletions announced again per relay run.
+     */
+    private int relayBatchSize = 100;
+}
@@ -0,0 +1,23 @@
+package com.madeeasy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@RefreshScope
+@ConfigurationProperties(prefix = "course.pagination")
+public class CoursePaginationProperties {
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+    /**
+     * Whether clients may still request the whole catalog in one response with {@code ?unpaged=true}.
+     */
+    private boolean allowUnpaged = true;
+    /**
+     * Upper bound of ids in one {@code GET /api/courses?ids=} lookup.
+     */
+    private int maxBatchSize = 100;
+}
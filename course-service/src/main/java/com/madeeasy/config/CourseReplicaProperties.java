@@ -0,0 +1,21 @@
+package com.madeeasy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "course.replica")
+public class CourseReplicaProperties {
+    /**
+     * How often the catalog snapshot is broadcast. Only one course-service instance publishes per interval.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+    /**
+     * Course ids per snapshot message, keeps every message well below the broker's message size limit.
+     */
+    private int snapshotChunkSize = 10_000;
+}
@@ -0,0 +1,24 @@
+package com.madeeasy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "course.cache.near")
+public class NearCacheProperties {
+    private boolean enabled = true;
+    /**
+     * Caches that get an in-process tier in front of Redis.
+     */
+    private List<String> cacheNames = List.of("course", "courseByCode");
+    private long maximumSize = 1000;
+    /**
+     * Upper bound on how long an entry can stay stale if an invalidation message is lost.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(1);
+}
@@ -1,18 +1,35 @@
 package com.madeeasy.controller;
 
+import com.madeeasy.config.CoursePaginationProperties;
+import com.madeeasy.dto.request.BulkCourseRequestDTO;
+import com.madeeasy.dto.request.CourseExportFormat;
 import com.madeeasy.dto.request.CourseRequestDTO;
+import com.madeeasy.dto.response.BulkCourseResponseDTO;
+import com.madeeasy.dto.response.CourseBatchResponseDTO;
+import com.madeeasy.dto.response.CourseChangePageResponseDTO;
+import com.madeeasy.dto.response.CourseDeletionStatusDTO;
+import com.madeeasy.dto.response.CoursePageResponseDTO;
 import com.madeeasy.dto.response.CourseResponseDTO;
 import com.madeeasy.dto.response.ResponseDTO;
 import com.madeeasy.service.CourseService;
 import com.madeeasy.util.ValidationUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @RestController
@@ -21,7 +38,11 @@ import java.util.Map;
 @Validated
 public class CourseController {
 
+    // Clients may keep the response but must revalidate it with If-None-Match
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final CourseService courseService;
+    private final CoursePaginationProperties paginationProperties;
 
 
     @PostMapping
@@ -30,38 +51,194 @@ public class CourseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdCourse);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createCourses(@Valid @RequestBody BulkCourseRequestDTO bulkCourseRequestDTO) {
+        BulkCourseResponseDTO response = courseService.createCourses(bulkCourseRequestDTO);
+        if (response.getCreated().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping
-    public ResponseEntity<?> getAllCourses() {
+    public ResponseEntity<?> getCourses(@RequestParam(name = "afterId", defaultValue = "0") Long afterId,
+                                        @RequestParam(name = "size", required = false) Integer size,
+                                        @RequestParam(name = "unpaged", defaultValue = "false") boolean unpaged,
+                                        WebRequest webRequest) {
+        if (unpaged) {
+            if (!paginationProperties.isAllowUnpaged()) {
+                return ResponseEntity.badRequest().body(Map.of("unpaged", "Unpaged course listing is disabled, use afterId and size instead"));
+            }
+            String eTag = catalogETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            return getAllCourses(eTag);
+        }
+
+        int pageSize = size != null ? size : paginationProperties.getDefaultPageSize();
+        Map<String, String> errors = new HashMap<>();
+        if (afterId < 0) {
+            errors.put("afterId", "afterId must not be negative");
+        }
+        errors.putAll(ValidationUtils.validateRange(pageSize, "size", 1, paginationProperties.getMaxPageSize()));
+        if (!errors.isEmpty()) {
+            return ResponseEntity.badRequest().body(errors);
+        }
+
+        String eTag = catalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        CoursePageResponseDTO page = courseService.getCourses(afterId, pageSize);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(page);
+    }
+
+    /**
+     * Batch lookup for clients enriching lists of course ids, e.g. instances, with one request instead of one per id.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getCoursesByIds(@RequestParam(name = "ids") List<Long> ids, WebRequest webRequest) {
+        Map<String, String> errors = new HashMap<>();
+        if (ids.isEmpty()) {
+            errors.put("ids", "ids must not be empty");
+        } else if (ids.size() > paginationProperties.getMaxBatchSize()) {
+            errors.put("ids", "At most " + paginationProperties.getMaxBatchSize() + " ids may be requested at once");
+        } else if (ids.stream().anyMatch(id -> id == null || id <= 0)) {
+            errors.put("ids", "ids must be positive numbers");
+        }
+        if (!errors.isEmpty()) {
+            return ResponseEntity.badRequest().body(errors);
+        }
+
+        String eTag = catalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        CourseBatchResponseDTO courses = courseService.getCoursesByIds(ids);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(courses);
+    }
+
+    private ResponseEntity<?> getAllCourses(String eTag) {
         List<CourseResponseDTO> courses = courseService.getAllCourses();
 
         if (courses.isEmpty()) {
             // Return 204 No Content if there are no courses
-            return ResponseEntity.status(HttpStatus.OK).body(List.of());
+            return ResponseEntity.status(HttpStatus.OK).eTag(eTag).cacheControl(REVALIDATE).body(List.of());
         }
         // Return 200 OK with the list of courses
-        return ResponseEntity.ok(courses);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(courses);
+    }
+
+    /**
+     * Strong ETag shared by every course read, it changes with the catalog version on each course write.
+     * Checking it costs a single counter lookup, so a 304 never touches the cached lists or the database.
+     */
+    private String catalogETag() {
+        return "courses-" + courseService.getCatalogVersion();
+    }
+
+    @GetMapping("/modified")
+    public ResponseEntity<?> getCoursesModifiedSince(@RequestParam(name = "since") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+                                                     @RequestParam(name = "afterId", defaultValue = "0") Long afterId,
+                                                     @RequestParam(name = "size", required = false) Integer size) {
+        int pageSize = size != null ? size : paginationProperties.getDefaultPageSize();
+        Map<String, String> errors = new HashMap<>();
+        if (afterId < 0) {
+            errors.put("afterId", "afterId must not be negative");
+        }
+        errors.putAll(ValidationUtils.validateRange(pageSize, "size", 1, paginationProperties.getMaxPageSize()));
+        if (!errors.isEmpty()) {
+            return ResponseEntity.badRequest().body(errors);
+        }
+
+        CoursePageResponseDTO page = courseService.getCoursesModifiedSince(since, afterId, pageSize);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(@RequestParam(name = "after", defaultValue = "0") Long after,
+                                        @RequestParam(name = "size", required = false) Integer size) {
+        int pageSize = size != null ? size : paginationProperties.getDefaultPageSize();
+        Map<String, String> errors = new HashMap<>();
+        if (after < 0) {
+            errors.put("after", "after must not be negative");
+        }
+        errors.putAll(ValidationUtils.validateRange(pageSize, "size", 1, paginationProperties.getMaxPageSize()));
+        if (!errors.isEmpty()) {
+            return ResponseEntity.badRequest().body(errors);
+        }
+
+        CourseChangePageResponseDTO page = courseService.getChanges(after, pageSize);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchCourses(@RequestParam(name = "q") String query,
+                                           @RequestParam(name = "limit", required = false) Integer limit,
+                                           WebRequest webRequest) {
+        int resultLimit = limit != null ? limit : paginationProperties.getDefaultPageSize();
+        Map<String, String> errors = new HashMap<>();
+        errors.putAll(ValidationUtils.validateNotBlank(query, "q"));
+        errors.putAll(ValidationUtils.validateRange(resultLimit, "limit", 1, paginationProperties.getMaxPageSize()));
+        if (!errors.isEmpty()) {
+            return ResponseEntity.badRequest().body(errors);
+        }
+        String eTag = catalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        List<CourseResponseDTO> courses = courseService.searchCourses(query, resultLimit);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(courses);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<?> exportCourses(@RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        CourseExportFormat exportFormat;
+        try {
+            exportFormat = CourseExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("format", "format must be one of ndjson or csv"));
+        }
+
+        StreamingResponseBody body = outputStream -> courseService.exportCourses(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("courses." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getCourseById(@PathVariable Long id) {
+    public ResponseEntity<?> getCourseById(@PathVariable Long id, WebRequest webRequest) {
         Map<String, String> errors = ValidationUtils.validatePositiveInteger(id.intValue(), "id");
 
         if (!errors.isEmpty()) {
             return ResponseEntity.badRequest().body(errors);
         }
+        String eTag = catalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         CourseResponseDTO course = courseService.getCourseById(id);
-        return ResponseEntity.ok(course);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(course);
     }
 
     @GetMapping("/code/{courseCode}")
-    public ResponseEntity<?> getCourseByCourseCode(@PathVariable String courseCode) {
+    public ResponseEntity<?> getCourseByCourseCode(@PathVariable String courseCode, WebRequest webRequest) {
         Map<String, String> errors = ValidationUtils.validateCourseCode(courseCode);
 
         if (!errors.isEmpty()) {
             return ResponseEntity.badRequest().body(errors);
         }
+        String eTag = catalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         CourseResponseDTO course = courseService.getCourseByCourseCode(courseCode);
-        return ResponseEntity.ok(course);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(course);
     }
 
     @DeleteMapping("/{id}")
@@ -75,4 +252,15 @@ public class CourseController {
 
         return ResponseEntity.status(responseDTO.getStatus()).body(responseDTO);
     }
+
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<?> getCourseDeletion(@PathVariable Long id) {
+        Map<String, String> errors = ValidationUtils.validatePositiveInteger(id.intValue(), "id");
+
+        if (!errors.isEmpty()) {
+            return ResponseEntity.badRequest().body(errors);
+        }
+        CourseDeletionStatusDTO deletion = courseService.getCourseDeletion(id);
+        return ResponseEntity.ok(deletion);
+    }
 }
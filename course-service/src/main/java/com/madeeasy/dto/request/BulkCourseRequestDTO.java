@@ -0,0 +1,22 @@
+package com.madeeasy.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCourseRequestDTO {
+
+    @NotEmpty(message = "courses cannot be empty")
+    @Size(max = 5000, message = "at most 5000 courses can be created in a single request")
+    private List<@Valid CourseRequestDTO> courses;
+}
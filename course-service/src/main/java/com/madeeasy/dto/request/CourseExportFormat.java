@@ -0,0 +1,24 @@
+package com.madeeasy.dto.request;
+
+import org.springframework.http.MediaType;
+
+public enum CourseExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    CourseExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
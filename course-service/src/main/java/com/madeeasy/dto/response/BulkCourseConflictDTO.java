@@ -0,0 +1,21 @@
+package com.madeeasy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCourseConflictDTO {
+
+    /**
+     * Position of the rejected course in the request.
+     */
+    private int index;
+    private String title;
+    private String courseCode;
+    private String message;
+}
@@ -0,0 +1,27 @@
+package com.madeeasy.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CourseBatchResponseDTO implements Serializable {
+
+    /**
+     * Found courses in the order their ids were requested, each id once.
+     */
+    private List<CourseResponseDTO> courses;
+    /**
+     * Requested ids without a course, in request order.
+     */
+    private List<Long> missingIds;
+}
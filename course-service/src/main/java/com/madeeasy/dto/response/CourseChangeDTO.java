@@ -0,0 +1,25 @@
+package com.madeeasy.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.madeeasy.entity.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CourseChangeDTO implements Serializable {
+
+    private Long cursor;
+    private ChangeType type;
+    private Long courseId;
+    private String courseCode;
+    private Instant changedAt;
+}
@@ -0,0 +1,26 @@
+package com.madeeasy.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.madeeasy.entity.DeletionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CourseDeletionStatusDTO implements Serializable {
+
+    private Long courseId;
+    private String courseCode;
+    private DeletionStatus status;
+    private Integer instancesDeleted;
+    private Instant requestedAt;
+    private Instant completedAt;
+}
@@ -0,0 +1,26 @@
+package com.madeeasy.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CoursePageResponseDTO implements Serializable {
+
+    private List<CourseResponseDTO> courses;
+    private int size;
+    private boolean hasMore;
+    /**
+     * Id of the last course in this page, pass it back as {@code afterId} to fetch the next page.
+     */
+    private Long nextCursor;
+}
@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 @Data
 @Builder
@@ -21,4 +22,6 @@ public class CourseResponseDTO implements Serializable {
     private String title;
     private String courseCode;
     private String description;
+    private Long version;
+    private Instant lastModifiedAt;
 }
@@ -1,26 +1,35 @@
 package com.madeeasy.entity;
 
+import com.madeeasy.generator.PooledSequenceIdGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Entity
+@SQLRestriction("deleted = false")
+@Table(indexes = @Index(name = "idx_course_last_modified_at", columnList = "last_modified_at, id"))
 public class Course implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_sequence_generator")
-    @SequenceGenerator(
+    @GeneratedValue(generator = "course_sequence_generator")
+    @GenericGenerator(
             name = "course_sequence_generator",
-            sequenceName = "course_sequence",
-            allocationSize = 1
+            type = PooledSequenceIdGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "course_sequence")
     )
     private Long id;
 
@@ -33,5 +42,22 @@ public class Course implements Serializable {
     @Column(length = 1000)
     private String description;
 
+    /**
+     * Soft delete flag, set while the instances of the course are purged. Deleted courses are invisible to
+     * every entity query, the row itself is removed once instance-service confirms the purge.
+     */
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Version
+    private Long version;
+
+    /**
+     * Set on insert and on every update, drives the incremental "modified since" queries.
+     */
+    @UpdateTimestamp
+    @Column(name = "last_modified_at")
+    private Instant lastModifiedAt;
+
 }
 
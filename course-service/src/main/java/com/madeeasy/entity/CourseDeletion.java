@@ -0,0 +1,48 @@
+package com.madeeasy.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * State of the cascading delete of one course, written in the same transaction as the soft delete.
+ * Pending rows double as the outbox the {@code CourseDeletionRelay} re-sends from.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(indexes = @Index(name = "idx_course_deletion_status", columnList = "status, last_published_at"))
+public class CourseDeletion implements Serializable {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "course_code", nullable = false)
+    private String courseCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private DeletionStatus status;
+
+    @Column(name = "instances_deleted", nullable = false)
+    private int instancesDeleted;
+
+    @CreationTimestamp
+    @Column(name = "requested_at", nullable = false)
+    private Instant requestedAt;
+
+    @Column(name = "last_published_at")
+    private Instant lastPublishedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -0,0 +1,12 @@
+package com.madeeasy.entity;
+
+public enum DeletionStatus {
+    /**
+     * The course is soft-deleted, its instances are still being purged.
+     */
+    PENDING,
+    /**
+     * instance-service confirmed the purge and the course row is gone.
+     */
+    COMPLETED
+}
@@ -0,0 +1,36 @@
+package com.madeeasy.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * Ids of every live course between {@code fromId} and {@code toId}, both inclusive, ascending. A snapshot of the
+ * whole catalog is broadcast in consecutive chunks by course-service, periodically and on request. Each chunk
+ * stands on its own, replicas replace the content of its id range with it. {@code takenAt}, the time in epoch
+ * milliseconds right before the chunk was read, tells them which of their own updates are newer.
+ */
+@Getter
+@Setter
+public class CourseCatalogSnapshotEvent extends RemoteApplicationEvent {
+
+    private long fromId;
+    private long toId;
+    private long takenAt;
+    private long[] courseIds;
+
+    @SuppressWarnings("unused")
+    public CourseCatalogSnapshotEvent() {
+        // for deserialization
+    }
+
+    public CourseCatalogSnapshotEvent(Object source, String originService, Destination destination,
+                                      long fromId, long toId, long takenAt, long[] courseIds) {
+        super(source, originService, destination);
+        this.fromId = fromId;
+        this.toId = toId;
+        this.takenAt = takenAt;
+        this.courseIds = courseIds;
+    }
+}
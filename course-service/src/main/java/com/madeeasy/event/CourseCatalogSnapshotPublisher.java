@@ -0,0 +1,87 @@
+package com.madeeasy.event;
+
+import com.madeeasy.config.CourseReplicaProperties;
+import com.madeeasy.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Reconciliation for the course replicas: create and delete events may be lost, a full snapshot of the live
+ * course ids is broadcast every {@code course.replica.snapshot-interval} and whenever a replica asks for one.
+ * <p>
+ * -> Every course-service instance schedules the snapshot and receives each request, a Redis lease lets only
+ * one of them publish.
+ * -> The ids are read and sent in chunks of {@code course.replica.snapshot-chunk-size}, each chunk read in its
+ * own short transaction. Chunks need not be consistent with each other, every one covers its own id range.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseCatalogSnapshotPublisher {
+
+    private static final String LEASE_PREFIX = "course-catalog-snapshot:";
+
+    private final CourseRepository courseRepository;
+    private final CourseEventPublisher courseEventPublisher;
+    private final CourseReplicaProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final BusProperties busProperties;
+
+    @Scheduled(fixedDelayString = "${course.replica.snapshot-interval:PT5M}")
+    public void publishScheduledSnapshot() {
+        // Held for most of the interval so the instances together publish about once per interval
+        Duration leaseTtl = properties.getSnapshotInterval().multipliedBy(9).dividedBy(10);
+        if (tryAcquireLease("scheduled", leaseTtl)) {
+            publishSnapshot();
+        }
+    }
+
+    @EventListener
+    public void onSnapshotRequested(CourseCatalogSnapshotRequestedEvent event) {
+        if (tryAcquireLease(event.getId(), properties.getSnapshotInterval())) {
+            log.info("Course catalog snapshot requested by {}", event.getOriginService());
+            publishSnapshot();
+        }
+    }
+
+    private void publishSnapshot() {
+        int chunkSize = Math.max(1, properties.getSnapshotChunkSize());
+        long fromId = 0L;
+        int chunks = 0;
+        int courses = 0;
+        while (true) {
+            // Taken before the read, a write racing the read is then newer than the chunk for the replicas
+            long takenAt = System.currentTimeMillis();
+            List<Long> ids = courseRepository.findIdsAfter(fromId - 1, Limit.of(chunkSize));
+            boolean last = ids.size() < chunkSize;
+            long toId = last ? Long.MAX_VALUE : ids.get(ids.size() - 1);
+            courseEventPublisher.publishCatalogSnapshot(fromId, toId, takenAt, ids.stream().mapToLong(Long::longValue).toArray());
+            chunks++;
+            courses += ids.size();
+            if (last) {
+                break;
+            }
+            fromId = toId + 1;
+        }
+        log.debug("Published course catalog snapshot of {} courses in {} chunks", courses, chunks);
+    }
+
+    private boolean tryAcquireLease(String name, Duration ttl) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LEASE_PREFIX + name, busProperties.getId(), ttl));
+        } catch (Exception e) {
+            // Without Redis every instance publishes, duplicates are harmless, a missing snapshot is not
+            log.warn("Failed to acquire the course catalog snapshot lease, message : {}", e.getMessage());
+            return true;
+        }
+    }
+}
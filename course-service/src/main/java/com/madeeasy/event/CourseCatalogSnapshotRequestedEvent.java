@@ -0,0 +1,19 @@
+package com.madeeasy.event;
+
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * Asks course-service for a {@link CourseCatalogSnapshotEvent} ahead of schedule, sent by a replica that just started.
+ */
+public class CourseCatalogSnapshotRequestedEvent extends RemoteApplicationEvent {
+
+    @SuppressWarnings("unused")
+    public CourseCatalogSnapshotRequestedEvent() {
+        // for deserialization
+    }
+
+    public CourseCatalogSnapshotRequestedEvent(Object source, String originService, Destination destination) {
+        super(source, originService, destination);
+    }
+}
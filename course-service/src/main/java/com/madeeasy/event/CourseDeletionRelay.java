@@ -0,0 +1,43 @@
+package com.madeeasy.event;
+
+import com.madeeasy.config.CourseDeletionProperties;
+import com.madeeasy.entity.CourseDeletion;
+import com.madeeasy.entity.DeletionStatus;
+import com.madeeasy.repository.CourseDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The bus gives no delivery guarantee, so deletions instance-service has not confirmed in time are
+ * announced again. Every course-service instance relays, the purge is idempotent so duplicates are harmless.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseDeletionRelay {
+
+    private final CourseDeletionRepository courseDeletionRepository;
+    private final CourseEventPublisher courseEventPublisher;
+    private final CourseDeletionProperties properties;
+
+    @Scheduled(fixedDelayString = "${course.deletion.relay-interval:PT10S}")
+    @Transactional
+    public void republishPendingDeletions() {
+        Instant now = Instant.now();
+        List<CourseDeletion> pending = courseDeletionRepository.findByStatusAndLastPublishedAtBeforeOrderByLastPublishedAtAsc(
+                DeletionStatus.PENDING, now.minus(properties.getRepublishAfter()), Limit.of(properties.getRelayBatchSize()));
+
+        for (CourseDeletion deletion : pending) {
+            log.info("Announcing deletion of course : {} again, requested at : {}", deletion.getCourseId(), deletion.getRequestedAt());
+            deletion.setLastPublishedAt(now);
+            courseEventPublisher.publishCourseDeleted(deletion.getCourseId(), deletion.getCourseCode());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.madeeasy.event;
+
+import com.madeeasy.dto.response.CourseResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final BusProperties busProperties;
+    private final Destination.Factory destinationFactory;
+
+    public void publishCoursesCreated(List<CourseResponseDTO> courses) {
+        try {
+            applicationEventPublisher.publishEvent(new CoursesCreatedEvent(
+                    this,
+                    busProperties.getId(),
+                    destinationFactory.getDestination(null),
+                    courses.stream()
+                            .map(course -> new CoursesCreatedEvent.CreatedCourse(course.getId(), course.getTitle(), course.getCourseCode()))
+                            .toList()));
+        } catch (Exception e) {
+            // Replicas miss the courses until the next catalog snapshot and look them up meanwhile
+            log.warn("Failed to announce creation of {} courses, message : {}", courses.size(), e.getMessage());
+        }
+    }
+
+    public void publishCatalogSnapshot(long fromId, long toId, long takenAt, long[] courseIds) {
+        try {
+            applicationEventPublisher.publishEvent(new CourseCatalogSnapshotEvent(
+                    this,
+                    busProperties.getId(),
+                    destinationFactory.getDestination(null),
+                    fromId,
+                    toId,
+                    takenAt,
+                    courseIds));
+        } catch (Exception e) {
+            log.warn("Failed to publish the course catalog snapshot from id : {}, message : {}", fromId, e.getMessage());
+        }
+    }
+
+    public void publishCourseDeleted(Long courseId, String courseCode) {
+        try {
+            applicationEventPublisher.publishEvent(new CourseDeletedEvent(
+                    this,
+                    busProperties.getId(),
+                    destinationFactory.getDestination(null),
+                    courseId,
+                    courseCode));
+        } catch (Exception e) {
+            // The deletion stays pending and the relay announces it again
+            log.warn("Failed to announce deletion of course : {}, message : {}", courseId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.madeeasy.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * Sent by instance-service once the instances of a deleted course are gone. {@code instancesDeleted}
+ * counts only the rows removed by this particular purge, duplicates of a finished purge report zero.
+ */
+@Getter
+@Setter
+public class CourseInstancesPurgedEvent extends RemoteApplicationEvent {
+
+    private Long courseId;
+    private int instancesDeleted;
+
+    @SuppressWarnings("unused")
+    public CourseInstancesPurgedEvent() {
+        // for deserialization
+    }
+
+    public CourseInstancesPurgedEvent(Object source, String originService, Destination destination,
+                                      Long courseId, int instancesDeleted) {
+        super(source, originService, destination);
+        this.courseId = courseId;
+        this.instancesDeleted = instancesDeleted;
+    }
+}
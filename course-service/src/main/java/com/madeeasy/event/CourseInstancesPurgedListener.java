@@ -0,0 +1,21 @@
+package com.madeeasy.event;
+
+import com.madeeasy.service.CourseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseInstancesPurgedListener {
+
+    private final CourseService courseService;
+
+    @EventListener
+    public void onCourseInstancesPurged(CourseInstancesPurgedEvent event) {
+        log.info("Instances of course : {} purged by {}, removed : {}", event.getCourseId(), event.getOriginService(), event.getInstancesDeleted());
+        courseService.completeCourseDeletion(event.getCourseId(), event.getInstancesDeleted());
+    }
+}
@@ -0,0 +1,42 @@
+package com.madeeasy.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Sent over Spring Cloud Bus by course-service after courses were created, so replicas of the course ids
+ * and details learn about them without asking. Delivery is not guaranteed, {@link CourseCatalogSnapshotEvent}
+ * repairs lost ids.
+ */
+@Getter
+@Setter
+public class CoursesCreatedEvent extends RemoteApplicationEvent {
+
+    private List<CreatedCourse> courses;
+
+    @SuppressWarnings("unused")
+    public CoursesCreatedEvent() {
+        // for deserialization
+    }
+
+    public CoursesCreatedEvent(Object source, String originService, Destination destination, List<CreatedCourse> courses) {
+        super(source, originService, destination);
+        this.courses = courses;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreatedCourse {
+        private Long id;
+        private String title;
+        private String courseCode;
+    }
+}
@@ -0,0 +1,38 @@
+package com.madeeasy.generator;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Sequence generator handing out ids from blocks reserved with a single sequence call, using the
+ * pooled-lo optimizer. The block size is read from the {@value #ALLOCATION_SIZE_SETTING} setting
+ * ({@code spring.jpa.properties.id_generator.allocation_size}) so it can be tuned without code changes.
+ * <p>
+ * Ids are increasing within one instance, but concurrent instances interleave their blocks and
+ * unused ids of a block are lost on restart, so gaps of up to the block size are expected.
+ */
+public class PooledSequenceIdGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "id_generator.allocation_size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        Object allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings()
+                .get(ALLOCATION_SIZE_SETTING);
+
+        parameters.setProperty(INCREMENT_PARAM, allocationSize != null
+                ? allocationSize.toString()
+                : String.valueOf(DEFAULT_ALLOCATION_SIZE));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
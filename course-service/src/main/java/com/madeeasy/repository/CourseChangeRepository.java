@@ -0,0 +1,15 @@
+package com.madeeasy.repository;
+
+import com.madeeasy.entity.CourseChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface CourseChangeRepository extends JpaRepository<CourseChange, Long> {
+
+    List<CourseChange> findByIdGreaterThanAndChangedAtLessThanEqualOrderByIdAsc(Long id, Instant changedAt, Limit limit);
+}
@@ -0,0 +1,33 @@
+package com.madeeasy.repository;
+
+import com.madeeasy.entity.CourseDeletion;
+import com.madeeasy.entity.DeletionStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface CourseDeletionRepository extends JpaRepository<CourseDeletion, Long> {
+
+    List<CourseDeletion> findByStatusAndLastPublishedAtBeforeOrderByLastPublishedAtAsc(DeletionStatus status, Instant lastPublishedAt, Limit limit);
+
+    /**
+     * Idempotent: the same acknowledgement is seen by every course-service node and may be redelivered, so the
+     * count is kept at the largest one reported, never summed. The purge that removed the instances reports them,
+     * repeated purges report zero.
+     */
+    @Modifying
+    @Query("UPDATE CourseDeletion d SET d.status = com.madeeasy.entity.DeletionStatus.COMPLETED, " +
+            "d.instancesDeleted = CASE WHEN d.instancesDeleted < :instancesDeleted THEN :instancesDeleted ELSE d.instancesDeleted END, " +
+            "d.completedAt = COALESCE(d.completedAt, :completedAt) " +
+            "WHERE d.courseId = :courseId")
+    int markCompleted(@Param("courseId") Long courseId,
+                      @Param("instancesDeleted") int instancesDeleted,
+                      @Param("completedAt") Instant completedAt);
+}
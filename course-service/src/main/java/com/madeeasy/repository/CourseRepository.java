@@ -1,11 +1,25 @@
 package com.madeeasy.repository;
 
 import com.madeeasy.entity.Course;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
@@ -13,4 +27,44 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     Optional<Course> findById(@NonNull Long id);
 
     Optional<Course> findByCourseCode(@NonNull String courseCode);
+
+    /**
+     * Native so soft-deleted courses, which still hold their unique title and code, are reported too.
+     */
+    @Query(value = "SELECT * FROM course WHERE title IN (:titles) OR course_code IN (:courseCodes)", nativeQuery = true)
+    List<Course> findByTitleInOrCourseCodeIn(@Param("titles") Collection<String> titles,
+                                             @Param("courseCodes") Collection<String> courseCodes);
+
+    List<Course> findByIdGreaterThanOrderByIdAsc(@NonNull Long id, Limit limit);
+
+    /**
+     * Keyset over (lastModifiedAt, id), courses written after the given position come back oldest change first.
+     */
+    @Query("SELECT c FROM Course c WHERE c.lastModifiedAt > :since OR (c.lastModifiedAt = :since AND c.id > :afterId) " +
+            "ORDER BY c.lastModifiedAt, c.id")
+    List<Course> findModifiedSince(@Param("since") Instant since, @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Forward-only cursor over the whole catalog, must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Course c ORDER BY c.id")
+    Stream<Course> streamAllOrderById();
+
+    /**
+     * Ids of live courses after the given one, a chunk of the snapshot instance-service reconciles its course replica with.
+     */
+    @Query("SELECT c.id FROM Course c WHERE c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Removes a soft-deleted course for good, a no-op for live or already removed courses.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM course WHERE id = :id AND deleted = true", nativeQuery = true)
+    int purgeDeletedById(@Param("id") Long id);
 }
@@ -0,0 +1,253 @@
+package com.madeeasy.search;
+
+import com.madeeasy.dto.response.CourseResponseDTO;
+import com.madeeasy.entity.Course;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process inverted index over course title, courseCode and description.
+ * <p>
+ * Terms are kept in a sorted dictionary so prefix queries are a range scan, and every term of three
+ * or more characters is also registered under its single-character deletions so that query terms
+ * one edit away (typo, missing or extra letter, swapped letters) can be found without scanning the dictionary.
+ * <p>
+ * Writes are serialized, reads are lock free. The index is local to each course-service instance, writes of
+ * other instances reach it through {@link CourseSearchIndexUpdater}.
+ */
+@Component
+public class CourseSearchIndex {
+
+    private static final int EXACT_SCORE = 3;
+    private static final int PREFIX_SCORE = 2;
+    private static final int FUZZY_SCORE = 1;
+    private static final int MIN_FUZZY_TERM_LENGTH = 3;
+
+    private final ConcurrentNavigableMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> deletionVariants = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> documentTerms = new ConcurrentHashMap<>();
+    private final Map<Long, CourseResponseDTO> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Indexes the course as stored, every path into the index goes through here so results look the same
+     * whenever and wherever a course was indexed.
+     */
+    public void index(Course course) {
+        index(CourseResponseDTO.builder()
+                .id(course.getId())
+                .title(course.getTitle())
+                .courseCode(course.getCourseCode())
+                .description(course.getDescription())
+                .version(course.getVersion())
+                .lastModifiedAt(course.getLastModifiedAt())
+                .build());
+    }
+
+    public synchronized void index(CourseResponseDTO course) {
+        remove(course.getId());
+
+        Set<String> terms = new HashSet<>();
+        terms.addAll(tokenize(course.getTitle()));
+        terms.addAll(tokenize(course.getCourseCode()));
+        terms.addAll(tokenize(course.getDescription()));
+        if (course.getCourseCode() != null) {
+            // "CS 101" is also searchable as "cs101"
+            terms.add(course.getCourseCode().replaceAll("\\s+", "").toLowerCase(Locale.ROOT));
+        }
+
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> {
+                if (t.length() >= MIN_FUZZY_TERM_LENGTH) {
+                    deletions(t).forEach(variant -> deletionVariants
+                            .computeIfAbsent(variant, v -> ConcurrentHashMap.newKeySet())
+                            .add(t));
+                }
+                return ConcurrentHashMap.newKeySet();
+            }).add(course.getId());
+        }
+        documentTerms.put(course.getId(), terms);
+        documents.put(course.getId(), course);
+    }
+
+    public synchronized void remove(Long courseId) {
+        documents.remove(courseId);
+        Set<String> terms = documentTerms.remove(courseId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Set<Long> ids = postings.get(term);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(courseId);
+            if (ids.isEmpty()) {
+                postings.remove(term);
+                if (term.length() >= MIN_FUZZY_TERM_LENGTH) {
+                    deletions(term).forEach(variant -> {
+                        Set<String> variantTerms = deletionVariants.get(variant);
+                        if (variantTerms != null) {
+                            variantTerms.remove(term);
+                            if (variantTerms.isEmpty()) {
+                                deletionVariants.remove(variant);
+                            }
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    public synchronized void rebuild(Collection<CourseResponseDTO> courses) {
+        postings.clear();
+        deletionVariants.clear();
+        documentTerms.clear();
+        documents.clear();
+        courses.forEach(this::index);
+    }
+
+    /**
+     * Returns the courses matching every term of the query, best matches first.
+     * A query term matches exactly, as a prefix of an indexed term, or within one edit of an indexed term.
+     */
+    public List<CourseResponseDTO> search(String query, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> scores = null;
+        for (String queryTerm : queryTerms) {
+            Map<Long, Integer> termScores = scoreTerm(queryTerm);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                // Every query term has to match, keep only the documents seen for all of them
+                Map<Long, Integer> previous = scores;
+                scores = new HashMap<>();
+                for (Map.Entry<Long, Integer> entry : termScores.entrySet()) {
+                    Integer previousScore = previous.get(entry.getKey());
+                    if (previousScore != null) {
+                        scores.put(entry.getKey(), previousScore + entry.getValue());
+                    }
+                }
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> documents.get(entry.getKey()))
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .toList();
+    }
+
+    public boolean contains(Long courseId) {
+        return documents.containsKey(courseId);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private Map<Long, Integer> scoreTerm(String queryTerm) {
+        Map<Long, Integer> scores = new HashMap<>();
+
+        // Exact and prefix matches are a single range scan over the sorted dictionary
+        postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false)
+                .forEach((term, ids) -> {
+                    int score = term.equals(queryTerm) ? EXACT_SCORE : PREFIX_SCORE;
+                    ids.forEach(id -> scores.merge(id, score, Math::max));
+                });
+
+        if (queryTerm.length() >= MIN_FUZZY_TERM_LENGTH) {
+            Set<String> candidates = new HashSet<>();
+            deletions(queryTerm).forEach(variant -> {
+                Set<String> terms = deletionVariants.get(variant);
+                if (terms != null) {
+                    candidates.addAll(terms);
+                }
+            });
+            // The query term itself may be a deletion of a longer indexed term
+            Set<String> insertions = deletionVariants.get(queryTerm);
+            if (insertions != null) {
+                candidates.addAll(insertions);
+            }
+
+            for (String candidate : candidates) {
+                if (isWithinOneEdit(queryTerm, candidate)) {
+                    Set<Long> ids = postings.get(candidate);
+                    if (ids != null) {
+                        ids.forEach(id -> scores.merge(id, FUZZY_SCORE, Math::max));
+                    }
+                }
+            }
+        }
+        return scores;
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static Set<String> deletions(String term) {
+        Set<String> variants = new HashSet<>();
+        variants.add(term);
+        for (int i = 0; i < term.length(); i++) {
+            variants.add(term.substring(0, i) + term.substring(i + 1));
+        }
+        return variants;
+    }
+
+    /**
+     * True if the two terms differ by at most one substitution, insertion, deletion or adjacent transposition.
+     */
+    private static boolean isWithinOneEdit(String a, String b) {
+        int lengthDifference = Math.abs(a.length() - b.length());
+        if (lengthDifference > 1) {
+            return false;
+        }
+        if (lengthDifference == 1) {
+            String shorter = a.length() < b.length() ? a : b;
+            String longer = a.length() < b.length() ? b : a;
+            int i = 0;
+            while (i < shorter.length() && shorter.charAt(i) == longer.charAt(i)) {
+                i++;
+            }
+            return shorter.substring(i).equals(longer.substring(i + 1));
+        }
+        int first = -1;
+        int second = -1;
+        for (int i = 0; i < a.length(); i++) {
+            if (a.charAt(i) != b.charAt(i)) {
+                if (first == -1) {
+                    first = i;
+                } else if (second == -1) {
+                    second = i;
+                } else {
+                    return false;
+                }
+            }
+        }
+        if (second == -1) {
+            return true;
+        }
+        return second == first + 1
+                && a.charAt(first) == b.charAt(second)
+                && a.charAt(second) == b.charAt(first);
+    }
+}
@@ -0,0 +1,39 @@
+package com.madeeasy.search;
+
+import com.madeeasy.entity.Course;
+import com.madeeasy.repository.CourseRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * Fills the {@link CourseSearchIndex} from the database once the application has started.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseSearchIndexLoader {
+
+    private final CourseRepository courseRepository;
+    private final CourseSearchIndex courseSearchIndex;
+    private final EntityManager entityManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndex() {
+        long start = System.currentTimeMillis();
+        try (Stream<Course> courses = courseRepository.streamAllOrderById()) {
+            courses.forEach(course -> {
+                courseSearchIndex.index(course);
+                entityManager.detach(course);
+            });
+        }
+        log.info("Course search index built with {} courses in {} ms", courseSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,70 @@
+package com.madeeasy.search;
+
+import com.madeeasy.event.CourseCatalogSnapshotEvent;
+import com.madeeasy.event.CourseDeletedEvent;
+import com.madeeasy.event.CoursesCreatedEvent;
+import com.madeeasy.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the {@link CourseSearchIndex} of this instance in step with courses written on other instances.
+ * <p>
+ * -> Created courses are read back from the database, the event only carries their ids and names.
+ * -> Deleted courses are removed, the deletion is announced until acknowledged so none is missed.
+ * -> A lost creation is repaired by the next catalog snapshot, ids the index lacks are loaded then.
+ * <p>
+ * Local writes are indexed after commit already, indexing a course again is harmless.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseSearchIndexUpdater {
+
+    private final CourseRepository courseRepository;
+    private final CourseSearchIndex courseSearchIndex;
+
+    @EventListener
+    public void onCoursesCreated(CoursesCreatedEvent event) {
+        if (event.getCourses() == null || event.getCourses().isEmpty()) {
+            return;
+        }
+        indexCourses(event.getCourses().stream()
+                .map(CoursesCreatedEvent.CreatedCourse::getId)
+                .filter(id -> !courseSearchIndex.contains(id))
+                .toList());
+    }
+
+    @EventListener
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        courseSearchIndex.remove(event.getCourseId());
+    }
+
+    @EventListener
+    public void onCatalogSnapshot(CourseCatalogSnapshotEvent event) {
+        if (event.getCourseIds() == null) {
+            return;
+        }
+        List<Long> missingIds = new ArrayList<>();
+        for (long courseId : event.getCourseIds()) {
+            if (!courseSearchIndex.contains(courseId)) {
+                missingIds.add(courseId);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            log.info("Indexing {} courses missing from the search index", missingIds.size());
+            indexCourses(missingIds);
+        }
+    }
+
+    private void indexCourses(List<Long> courseIds) {
+        if (!courseIds.isEmpty()) {
+            courseRepository.findAllById(courseIds).forEach(courseSearchIndex::index);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -68,14 +69,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return; // Exit the filter chain
             }
 
-            // Validate token using external service
-            String authUrl = "http://auth-service/auth-service/validate-access-token/" + token;
+            // Validate token using external service, the token travels in the Authorization header
+            // rather than the URL path so auth-service does not have to decode and match it
+            String authUrl = "http://auth-service/auth-service/validate-access-token";
+            HttpHeaders authHeaders = new HttpHeaders();
+            authHeaders.set(HttpHeaders.AUTHORIZATION, authorizationHeader);
 
             try {
                 ResponseEntity<Boolean> authResponse = restTemplate.exchange(
                         authUrl,
                         HttpMethod.POST,
-                        null,  // No request body in this example
+                        new HttpEntity<>(authHeaders),
                         Boolean.class
                 );
 
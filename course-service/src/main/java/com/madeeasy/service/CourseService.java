@@ -1,19 +1,49 @@
 package com.madeeasy.service;
 
+import com.madeeasy.dto.request.BulkCourseRequestDTO;
+import com.madeeasy.dto.request.CourseExportFormat;
 import com.madeeasy.dto.request.CourseRequestDTO;
+import com.madeeasy.dto.response.BulkCourseResponseDTO;
+import com.madeeasy.dto.response.CourseBatchResponseDTO;
+import com.madeeasy.dto.response.CourseChangePageResponseDTO;
+import com.madeeasy.dto.response.CourseDeletionStatusDTO;
+import com.madeeasy.dto.response.CoursePageResponseDTO;
 import com.madeeasy.dto.response.CourseResponseDTO;
 import com.madeeasy.dto.response.ResponseDTO;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.util.List;
 
 public interface CourseService {
     CourseResponseDTO createCourse(CourseRequestDTO course);
 
+    BulkCourseResponseDTO createCourses(BulkCourseRequestDTO bulkCourseRequestDTO);
+
     List<CourseResponseDTO> getAllCourses();
 
+    CoursePageResponseDTO getCourses(Long afterId, int size);
+
+    CoursePageResponseDTO getCoursesModifiedSince(Instant since, Long afterId, int size);
+
+    void exportCourses(CourseExportFormat format, OutputStream outputStream) throws IOException;
+
+    List<CourseResponseDTO> searchCourses(String query, int limit);
+
     CourseResponseDTO getCourseById(Long id);
 
     CourseResponseDTO getCourseByCourseCode(String courseCode);
 
+    CourseBatchResponseDTO getCoursesByIds(List<Long> ids);
+
     ResponseDTO deleteCourse(Long id);
+
+    CourseDeletionStatusDTO getCourseDeletion(Long id);
+
+    void completeCourseDeletion(Long courseId, int instancesDeleted);
+
+    long getCatalogVersion();
+
+    CourseChangePageResponseDTO getChanges(Long after, int size);
 }
@@ -1,32 +1,55 @@
 package com.madeeasy.service.impl;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madeeasy.cache.BatchCacheLoader;
+import com.madeeasy.cache.CourseCacheInvalidator;
+import com.madeeasy.cache.SingleFlightCacheLoader;
+import com.madeeasy.config.ChangeFeedProperties;
+import com.madeeasy.dto.request.BulkCourseRequestDTO;
+import com.madeeasy.dto.request.CourseExportFormat;
 import com.madeeasy.dto.request.CourseRequestDTO;
+import com.madeeasy.dto.response.BulkCourseConflictDTO;
+import com.madeeasy.dto.response.BulkCourseResponseDTO;
+import com.madeeasy.dto.response.CourseBatchResponseDTO;
+import com.madeeasy.dto.response.CourseChangeDTO;
+import com.madeeasy.dto.response.CourseChangePageResponseDTO;
+import com.madeeasy.dto.response.CourseDeletionStatusDTO;
+import com.madeeasy.dto.response.CoursePageResponseDTO;
 import com.madeeasy.dto.response.CourseResponseDTO;
 import com.madeeasy.dto.response.ResponseDTO;
+import com.madeeasy.entity.ChangeType;
 import com.madeeasy.entity.Course;
+import com.madeeasy.entity.CourseChange;
+import com.madeeasy.entity.CourseDeletion;
+import com.madeeasy.entity.DeletionStatus;
+import com.madeeasy.event.CourseEventPublisher;
 import com.madeeasy.exception.CourseNotFoundException;
+import com.madeeasy.repository.CourseChangeRepository;
+import com.madeeasy.repository.CourseDeletionRepository;
 import com.madeeasy.repository.CourseRepository;
+import com.madeeasy.search.CourseSearchIndex;
 import com.madeeasy.service.CourseService;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
@@ -37,13 +60,24 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 public class CourseServiceImpl implements CourseService {
 
     private final CourseRepository courseRepository;
-    private final RestTemplate restTemplate;
-    private final HttpServletRequest httpServletRequest;
+    private final CourseChangeRepository courseChangeRepository;
+    private final CourseDeletionRepository courseDeletionRepository;
+    private final CourseEventPublisher courseEventPublisher;
+    private final ChangeFeedProperties changeFeedProperties;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final CourseSearchIndex courseSearchIndex;
+    private final BatchCacheLoader batchCacheLoader;
+    private final SingleFlightCacheLoader singleFlightCacheLoader;
+    private final CourseCacheInvalidator courseCacheInvalidator;
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
     private final Logger logger = LoggerFactory.getLogger(CourseServiceImpl.class);
-    private final static String COURSE = "course";
+    private final static String COURSE = CourseCacheInvalidator.COURSE;
+    private final static String COURSE_BY_CODE = CourseCacheInvalidator.COURSE_BY_CODE;
+    private final static String COURSE_PAGE = CourseCacheInvalidator.COURSE_PAGE;
 
     @Override
-    @CacheEvict(value = COURSE, key = "'getAllCourses'")
     public CourseResponseDTO createCourse(CourseRequestDTO courseRequestDTO) {
 
         logger.info("Creating course: {}", courseRequestDTO);
@@ -55,25 +89,134 @@ public class CourseServiceImpl implements CourseService {
                 .build();
 
         courseRepository.save(course);
+        courseChangeRepository.save(changeOf(ChangeType.CREATED, course));
 
-        return CourseResponseDTO.builder()
+        CourseResponseDTO courseResponseDTO = CourseResponseDTO.builder()
                 .id(course.getId())
                 .title(courseRequestDTO.getTitle())
                 .courseCode(courseRequestDTO.getCourseCode())
                 .description(courseRequestDTO.getDescription())
                 .build();
 
+        afterCommit(() -> {
+            courseSearchIndex.index(course);
+            courseCacheInvalidator.coursesChanged();
+            courseEventPublisher.publishCoursesCreated(List.of(courseResponseDTO));
+        });
+
+        return courseResponseDTO;
+
+    }
+
+    /**
+     * Creates many courses in one transaction. Duplicates of title or courseCode, within the request or
+     * against existing courses, are looked up with a single query and reported per item instead of failing
+     * the whole batch. Inserts are flushed in chunks of the JDBC batch size and the list caches are
+     * invalidated once.
+     */
+    @Override
+    public BulkCourseResponseDTO createCourses(BulkCourseRequestDTO bulkCourseRequestDTO) {
+        List<CourseRequestDTO> requests = bulkCourseRequestDTO.getCourses();
+        logger.info("Creating {} courses in bulk", requests.size());
+
+        Set<String> titles = new HashSet<>();
+        Set<String> courseCodes = new HashSet<>();
+        requests.forEach(request -> {
+            titles.add(request.getTitle());
+            courseCodes.add(request.getCourseCode());
+        });
+
+        Set<String> takenTitles = new HashSet<>();
+        Set<String> takenCourseCodes = new HashSet<>();
+        this.courseRepository.findByTitleInOrCourseCodeIn(titles, courseCodes).forEach(existing -> {
+            takenTitles.add(existing.getTitle());
+            takenCourseCodes.add(existing.getCourseCode());
+        });
+
+        List<Course> coursesToSave = new ArrayList<>();
+        List<BulkCourseConflictDTO> conflicts = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            CourseRequestDTO request = requests.get(index);
+            boolean titleTaken = takenTitles.contains(request.getTitle());
+            boolean courseCodeTaken = takenCourseCodes.contains(request.getCourseCode());
+
+            if (titleTaken || courseCodeTaken) {
+                String message = titleTaken && courseCodeTaken
+                        ? "title and courseCode must be unique."
+                        : titleTaken ? "title must be unique." : "courseCode must be unique.";
+                conflicts.add(BulkCourseConflictDTO.builder()
+                        .index(index)
+                        .title(request.getTitle())
+                        .courseCode(request.getCourseCode())
+                        .message(message)
+                        .build());
+                continue;
+            }
+
+            // Later duplicates inside the same request conflict with this one
+            takenTitles.add(request.getTitle());
+            takenCourseCodes.add(request.getCourseCode());
+            coursesToSave.add(Course.builder()
+                    .title(request.getTitle())
+                    .courseCode(request.getCourseCode())
+                    .description(request.getDescription())
+                    .build());
+        }
+
+        List<CourseResponseDTO> created = new ArrayList<>(coursesToSave.size());
+        for (int i = 0; i < coursesToSave.size(); i++) {
+            Course course = coursesToSave.get(i);
+            entityManager.persist(course);
+            entityManager.persist(changeOf(ChangeType.CREATED, course));
+            created.add(CourseResponseDTO.builder()
+                    .id(course.getId())
+                    .title(course.getTitle())
+                    .courseCode(course.getCourseCode())
+                    .description(course.getDescription())
+                    .version(course.getVersion())
+                    .lastModifiedAt(course.getLastModifiedAt())
+                    .build());
+
+            // Send each full chunk as one JDBC batch and keep the persistence context small
+            if (jdbcBatchSize > 0 && (i + 1) % jdbcBatchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        afterCommit(() -> {
+            coursesToSave.forEach(courseSearchIndex::index);
+            if (!created.isEmpty()) {
+                courseCacheInvalidator.coursesChanged();
+                courseEventPublisher.publishCoursesCreated(created);
+            }
+        });
+
+        return BulkCourseResponseDTO.builder()
+                .created(created)
+                .conflicts(conflicts)
+                .build();
     }
 
+    /**
+     * The full list is the most expensive entry to rebuild, so it is loaded through
+     * {@link SingleFlightCacheLoader} rather than {@code @Cacheable} to keep a miss from
+     * sending every concurrent caller to the database.
+     */
     @Override
-    @Cacheable(value = COURSE, key = "#root.methodName", unless = "#result == null")
     public List<CourseResponseDTO> getAllCourses() {
+        return singleFlightCacheLoader.get(COURSE_PAGE, courseCacheInvalidator.listGeneration() + "-all", this::loadAllCourses);
+    }
+
+    private List<CourseResponseDTO> loadAllCourses() {
         List<Course> courses = this.courseRepository.findAll();
 
         if (courses.isEmpty()) {
             // Handle the case where there are no courses
             // You can return an empty list or handle it differently
-            return List.of(); // or return a custom response indicating no courses found
+            return new ArrayList<>(); // or return a custom response indicating no courses found
         }
 
         // Map the courses to CourseResponseDTO if the list is not empty
@@ -83,10 +226,142 @@ public class CourseServiceImpl implements CourseService {
                         .title(course.getTitle())
                         .courseCode(course.getCourseCode())
                         .description(course.getDescription())
+                        .version(course.getVersion())
+                        .lastModifiedAt(course.getLastModifiedAt())
                         .build())
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset pagination on the course id, only the requested page is loaded and cached.
+     * One extra row is fetched to know whether another page follows. Pages are keyed by the current
+     * list generation, so writes never have to delete them.
+     */
+    @Override
+    @Cacheable(value = COURSE_PAGE, key = "@courseCacheInvalidator.listGeneration() + '-' + #afterId + '-' + #size", unless = "#result == null")
+    public CoursePageResponseDTO getCourses(Long afterId, int size) {
+        List<Course> courses = this.courseRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size + 1));
+
+        boolean hasMore = courses.size() > size;
+        List<CourseResponseDTO> page = courses.stream()
+                .limit(size)
+                .map(course -> CourseResponseDTO.builder()
+                        .id(course.getId())
+                        .title(course.getTitle())
+                        .courseCode(course.getCourseCode())
+                        .description(course.getDescription())
+                        .version(course.getVersion())
+                        .lastModifiedAt(course.getLastModifiedAt())
+                        .build())
+                .collect(Collectors.toList());
+
+        return CoursePageResponseDTO.builder()
+                .courses(page)
+                .size(page.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+
+    /**
+     * Incremental pull: courses created or changed after the given (lastModifiedAt, id) position, so clients
+     * holding a copy of the catalog fetch only what moved. Pass the last course's lastModifiedAt as {@code since}
+     * and {@code nextCursor} as {@code afterId} to continue.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CoursePageResponseDTO getCoursesModifiedSince(Instant since, Long afterId, int size) {
+        List<Course> courses = this.courseRepository.findModifiedSince(since, afterId, Limit.of(size + 1));
+
+        boolean hasMore = courses.size() > size;
+        List<CourseResponseDTO> page = courses.stream()
+                .limit(size)
+                .map(course -> CourseResponseDTO.builder()
+                        .id(course.getId())
+                        .title(course.getTitle())
+                        .courseCode(course.getCourseCode())
+                        .description(course.getDescription())
+                        .version(course.getVersion())
+                        .lastModifiedAt(course.getLastModifiedAt())
+                        .build())
+                .collect(Collectors.toList());
+
+        return CoursePageResponseDTO.builder()
+                .courses(page)
+                .size(page.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+
+    /**
+     * Writes the whole catalog to the given stream one row at a time. Rows come from a forward-only
+     * cursor and are detached once written, so memory stays constant regardless of the catalog size.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCourses(CourseExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == CourseExportFormat.CSV) {
+            writer.write("id,title,courseCode,description\n");
+        }
+
+        try (Stream<Course> courses = this.courseRepository.streamAllOrderById()) {
+            Iterator<Course> iterator = courses.iterator();
+            while (iterator.hasNext()) {
+                Course course = iterator.next();
+                CourseResponseDTO courseResponseDTO = CourseResponseDTO.builder()
+                        .id(course.getId())
+                        .title(course.getTitle())
+                        .courseCode(course.getCourseCode())
+                        .description(course.getDescription())
+                        .version(course.getVersion())
+                        .lastModifiedAt(course.getLastModifiedAt())
+                        .build();
+
+                if (format == CourseExportFormat.CSV) {
+                    writer.write(courseResponseDTO.getId() + ","
+                            + toCsvField(courseResponseDTO.getTitle()) + ","
+                            + toCsvField(courseResponseDTO.getCourseCode()) + ","
+                            + toCsvField(courseResponseDTO.getDescription()) + "\n");
+                } else {
+                    writer.write(objectMapper.writeValueAsString(courseResponseDTO));
+                    writer.write('\n');
+                }
+
+                // Keep the persistence context from growing with every row read
+                entityManager.detach(course);
+            }
+        }
+        writer.flush();
+    }
+
+    private static String toCsvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<CourseResponseDTO> searchCourses(String query, int limit) {
+        return courseSearchIndex.search(query, limit);
+    }
+
+    /**
+     * Changes on every course write, cheap enough to answer conditional requests before loading anything.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getCatalogVersion() {
+        return courseCacheInvalidator.listGeneration();
+    }
+
     @Override
     @Cacheable(value = COURSE, key = "#id", unless = "#result == null")
     public CourseResponseDTO getCourseById(Long id) {
@@ -99,11 +374,52 @@ public class CourseServiceImpl implements CourseService {
                 .title(course.getTitle())
                 .courseCode(course.getCourseCode())
                 .description(course.getDescription())
+                .version(course.getVersion())
+                .lastModifiedAt(course.getLastModifiedAt())
                 .build();
     }
 
+    /**
+     * Resolves many courses for one client render instead of one request per course. Cached courses come from
+     * a single multi-get, the rest from a single {@code IN} query, results keep the order of the request.
+     */
     @Override
-    @Cacheable(value = "courseByCode", key = "#courseCode", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public CourseBatchResponseDTO getCoursesByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, CourseResponseDTO> found = batchCacheLoader.getAll(COURSE, distinctIds, CourseResponseDTO.class,
+                missingIds -> courseRepository.findAllById(missingIds).stream()
+                        .collect(Collectors.toMap(Course::getId, CourseServiceImpl::toResponse)));
+
+        List<CourseResponseDTO> courses = new ArrayList<>(distinctIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            CourseResponseDTO course = found.get(id);
+            if (course != null) {
+                courses.add(course);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return CourseBatchResponseDTO.builder()
+                .courses(courses)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    private static CourseResponseDTO toResponse(Course course) {
+        return CourseResponseDTO.builder()
+                .id(course.getId())
+                .title(course.getTitle())
+                .courseCode(course.getCourseCode())
+                .description(course.getDescription())
+                .version(course.getVersion())
+                .lastModifiedAt(course.getLastModifiedAt())
+                .build();
+    }
+
+    @Override
+    @Cacheable(value = COURSE_BY_CODE, key = "#courseCode", unless = "#result == null")
     public CourseResponseDTO getCourseByCourseCode(String courseCode) {
         logger.info("Fetching course with courseCode : {}", courseCode);
         Course course = this.courseRepository.findByCourseCode(courseCode)
@@ -114,6 +430,8 @@ public class CourseServiceImpl implements CourseService {
                 .title(course.getTitle())
                 .courseCode(course.getCourseCode())
                 .description(course.getDescription())
+                .version(course.getVersion())
+                .lastModifiedAt(course.getLastModifiedAt())
                 .build();
     }
 
@@ -131,116 +449,122 @@ public class CourseServiceImpl implements CourseService {
      * Logic:
      * <p>
      * -> First, retrieve the course by its ID.
-     * -> If the course exists, find all instances associated with this course.
-     * -> Delete the instances.
-     * -> Finally, delete the course.
+     * -> Soft-delete the course and record a pending deletion, in one local transaction.
+     * -> After commit, announce a {@link com.madeeasy.event.CourseDeletedEvent} so instance-service purges the instances.
+     * -> Once instance-service confirms the purge, {@link #completeCourseDeletion} removes the course row.
+     * <p>
+     * The caller never waits for instance-service, progress is observed through {@link #getCourseDeletion}.
      */
-
-
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = COURSE, key = "#id"),
-            @CacheEvict(value = COURSE, key = "'getAllCourses'")
-    })
-    @Retry(name = "myRetry", fallbackMethod = "fallbackDeleteCourse")
-    @CircuitBreaker(name = "myCircuitBreaker", fallbackMethod = "fallbackDeleteCourse")
     public ResponseDTO deleteCourse(Long id) {
-        // Check if the course exists before deleting
-        if (!courseRepository.existsById(id)) {
+        // Check if the course exists before deleting, its code is needed to invalidate the cache
+        Course course = courseRepository.findById(id).orElse(null);
+        if (course == null) {
             return new ResponseDTO("Course with ID " + id + " does not exist.", NOT_FOUND);
         }
 
-        // Create the URL for deleting the related course instances
-        String courseServiceUrl = "http://course-instance-service/api/instances/courseId/" + id;
-
-        // Get the authorization header from the request
-        String authorizationHeader = httpServletRequest.getHeader(HttpHeaders.AUTHORIZATION);
-
-        // Create HttpEntity with the token
-        HttpEntity<String> requestEntity = createHttpEntityWithToken(authorizationHeader);
-
-        logger.info("Calling course instance service to delete course instance with ID: {}", id);
-
-        // Make the DELETE request to the course instance service
-        ResponseEntity<String> response = restTemplate.exchange(courseServiceUrl, HttpMethod.DELETE, requestEntity, String.class);
-
-        // Proceed with the deletion of the course from the primary database
-        courseRepository.deleteById(id);
-
-        logger.info("Course instance deleted successfully for course ID: {}", id);
+        String courseCode = course.getCourseCode();
+        course.setDeleted(true);
+        courseChangeRepository.save(changeOf(ChangeType.DELETED, course));
+        courseDeletionRepository.save(CourseDeletion.builder()
+                .courseId(id)
+                .courseCode(courseCode)
+                .status(DeletionStatus.PENDING)
+                .lastPublishedAt(Instant.now())
+                .build());
+
+        afterCommit(() -> {
+            courseSearchIndex.remove(id);
+            courseCacheInvalidator.courseRemoved(id, courseCode);
+            courseEventPublisher.publishCourseDeleted(id, courseCode);
+        });
+
+        logger.info("Course with ID: {} soft-deleted, purge of its instances requested", id);
+
+        return new ResponseDTO("Deletion of course with ID " + id + " has been accepted, its instances are being removed.", HttpStatus.ACCEPTED);
+    }
 
-        return new ResponseDTO("Course with ID " + id + " has been successfully deleted.", HttpStatus.OK);
+    @Override
+    @Transactional(readOnly = true)
+    public CourseDeletionStatusDTO getCourseDeletion(Long id) {
+        CourseDeletion deletion = courseDeletionRepository.findById(id)
+                .orElseThrow(() -> new CourseNotFoundException("No deletion requested for course with id : " + id));
+
+        return CourseDeletionStatusDTO.builder()
+                .courseId(deletion.getCourseId())
+                .courseCode(deletion.getCourseCode())
+                .status(deletion.getStatus())
+                .instancesDeleted(deletion.getInstancesDeleted())
+                .requestedAt(deletion.getRequestedAt())
+                .completedAt(deletion.getCompletedAt())
+                .build();
     }
 
-    private HttpEntity<String> createHttpEntityWithToken(String authorizationHeader) {
-        HttpHeaders headers = new HttpHeaders();
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            String token = authorizationHeader.substring(7);  // Strip "Bearer " prefix
-            headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    /**
+     * Idempotent: duplicate acknowledgements, one per course-service node or redelivered, leave the count unchanged.
+     */
+    @Override
+    public void completeCourseDeletion(Long courseId, int instancesDeleted) {
+        if (courseDeletionRepository.markCompleted(courseId, instancesDeleted, Instant.now()) == 0) {
+            log.warn("Purge acknowledged for course : {} without a recorded deletion", courseId);
+            return;
         }
-        return new HttpEntity<>(headers);
+        courseRepository.purgeDeletedById(courseId);
     }
 
-    public ResponseDTO fallbackDeleteCourse(Long id, Throwable t) {
-        log.error("message : {}", t.getMessage());
-
-        // Check if the throwable is an instance of HttpClientErrorException
-        if (t instanceof HttpClientErrorException exception) {
-            if (exception.getStatusCode().equals(HttpStatus.BAD_REQUEST)) {
-                try {
-                    // Parse the response body as JSON
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    JsonNode jsonNode = objectMapper.readTree(exception.getResponseBodyAsString());
+    private static CourseChange changeOf(ChangeType type, Course course) {
+        return CourseChange.builder()
+                .type(type)
+                .courseId(course.getId())
+                .courseCode(course.getCourseCode())
+                .build();
+    }
 
-                    // Extract specific fields from the JSON, such as 'message' and 'status'
-                    String errorMessage = jsonNode.path("message").asText();
-                    String errorStatus = jsonNode.path("status").asText();
+    /**
+     * Change feed: entries after the given cursor in write order. Entries younger than the settle delay are
+     * held back so a transaction still committing a lower cursor is not skipped.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CourseChangePageResponseDTO getChanges(Long after, int size) {
+        Instant settledBefore = Instant.now().minus(changeFeedProperties.getSettleDelay());
+        List<CourseChange> changes = this.courseChangeRepository
+                .findByIdGreaterThanAndChangedAtLessThanEqualOrderByIdAsc(after, settledBefore, Limit.of(size + 1));
+
+        boolean hasMore = changes.size() > size;
+        List<CourseChangeDTO> page = changes.stream()
+                .limit(size)
+                .map(change -> CourseChangeDTO.builder()
+                        .cursor(change.getId())
+                        .type(change.getType())
+                        .courseId(change.getCourseId())
+                        .courseCode(change.getCourseCode())
+                        .changedAt(change.getChangedAt())
+                        .build())
+                .collect(Collectors.toList());
 
-                    // Log the extracted information
-                    log.error("message : {} , status : {}", errorMessage, errorStatus);
+        return CourseChangePageResponseDTO.builder()
+                .changes(page)
+                .size(page.size())
+                .hasMore(hasMore)
+                .nextCursor(page.isEmpty() ? after : page.get(page.size() - 1).getCursor())
+                .build();
+    }
 
-                    return ResponseDTO.builder()
-                            .status(HttpStatus.BAD_REQUEST)
-                            .message("Bad request : " + errorMessage)
-                            .build();
-                } catch (Exception e) {
-                    log.error("Failed to parse the error response", e);
-                }
-            } else {
-                try {
-                    // Parse the response body as JSON
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    JsonNode jsonNode = objectMapper.readTree(exception.getResponseBodyAsString());
-
-                    // Extract specific fields from the JSON, such as 'message' and 'status'
-                    String errorMessage = jsonNode.path("message").asText();
-                    String errorStatus = jsonNode.path("status").asText();
-
-                    // Log the extracted information
-                    log.error("message : {} , status : {}", errorMessage, errorStatus);
-                    if (((HttpClientErrorException) t).getStatusCode() == HttpStatus.NOT_FOUND) {
-                        // Handle the case where the course instance was not found
-                        courseRepository.deleteById(id);
-                        return new ResponseDTO("Course with ID " + id + " has been successfully deleted.", HttpStatus.OK);
-                    }
-                    return ResponseDTO.builder()
-                            .status(HttpStatus.BAD_REQUEST)
-                            .message("Bad request : " + errorMessage)
-                            .build();
-                } catch (Exception e) {
-                    log.error("Failed to parse the error response", e);
+    /**
+     * Runs the given action once the surrounding transaction has committed, or right away without one,
+     * so in-process state never reflects a write that was rolled back.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
                 }
-            }
+            });
+        } else {
+            action.run();
         }
-
-        // Fallback response if the exception is not HttpClientErrorException or any other case
-        return ResponseDTO.builder()
-                .message("Sorry !! Course Deletion failed as Course Instance Service is unavailable. Please try again later.")
-                .status(HttpStatus.SERVICE_UNAVAILABLE)
-                .build();
     }
-
-
 }
-
-
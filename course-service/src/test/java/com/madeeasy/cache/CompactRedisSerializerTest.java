@@ -0,0 +1,124 @@
+package com.madeeasy.cache;
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.madeeasy.dto.response.CoursePageResponseDTO;
+import com.madeeasy.dto.response.CourseResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round trips every value type cached by this service through {@link CompactRedisSerializer} and compares
+ * payload size and serialization time with the JSON serializer it replaces.
+ */
+class CompactRedisSerializerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactRedisSerializerTest.class);
+    private static final int COMPRESSION_THRESHOLD = 1024;
+    private static final int ITERATIONS = 2_000;
+
+    private final CompactRedisSerializer compact = new CompactRedisSerializer(COMPRESSION_THRESHOLD);
+    private final RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer()
+            .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+
+    @Test
+    void course() {
+        assertRoundTrip(course(1L));
+    }
+
+    @Test
+    void courseWithoutOptionalFields() {
+        assertRoundTrip(CourseResponseDTO.builder()
+                .id(7L)
+                .title("Compilers")
+                .courseCode("CS 401")
+                .build());
+    }
+
+    @Test
+    void coursePage() {
+        assertRoundTrip(CoursePageResponseDTO.builder()
+                .courses(courses(20))
+                .size(20)
+                .hasMore(true)
+                .nextCursor(20L)
+                .build());
+    }
+
+    @Test
+    void allCoursesEnvelope() {
+        assertRoundTrip(new CacheEnvelope(courses(3), 12L, 1_700_000_000_000L));
+    }
+
+    @Test
+    void nullAndEmptyValues() {
+        assertThat(compact.serialize(null)).isEmpty();
+        assertThat(compact.deserialize(null)).isNull();
+        assertThat(compact.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void largeValuesAreDeflatedAndReadBack() {
+        Object value = new CacheEnvelope(courses(500), 40L, 1_700_000_000_000L);
+
+        byte[] bytes = compact.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(compact.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void smallerThanJson() {
+        Object value = new CacheEnvelope(courses(500), 40L, 1_700_000_000_000L);
+
+        int compactSize = compact.serialize(value).length;
+        int jsonSize = json.serialize(value).length;
+        log.info("Payload size : compact {} bytes, json {} bytes", compactSize, jsonSize);
+        log.info("Serialization round trip : compact {} us, json {} us", averageMicros(compact, value), averageMicros(json, value));
+
+        assertThat(compactSize).isLessThan(jsonSize);
+    }
+
+    private void assertRoundTrip(Object value) {
+        assertThat(compact.deserialize(compact.serialize(value))).isEqualTo(value);
+    }
+
+    // Average time of one write and read, after a warm-up of the same length
+    private static long averageMicros(RedisSerializer<Object> serializer, Object value) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000;
+    }
+
+    private static List<CourseResponseDTO> courses(int count) {
+        List<CourseResponseDTO> courses = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            courses.add(course(id));
+        }
+        return List.copyOf(courses);
+    }
+
+    private static CourseResponseDTO course(long id) {
+        return CourseResponseDTO.builder()
+                .id(id)
+                .title("Course " + id)
+                .courseCode("CS " + (100 + id))
+                .description("Introduction to the topics of course " + id)
+                .version(3L)
+                .lastModifiedAt(Instant.parse("2024-09-01T10:15:30.123456789Z"))
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package com.madeeasy.generator;
+
+import com.madeeasy.entity.Course;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persists {@link Course} rows through Hibernate against an in-memory H2 sequence, with the id generator
+ * configured the way the application configures it.
+ */
+class PooledSequenceIdGeneratorTest {
+
+    private static final int BLOCK_SIZE = 20;
+    private static final int THREADS = 8;
+    private static final int ROWS_PER_THREAD = 100;
+
+    private final AtomicLong rowNumber = new AtomicLong();
+
+    @Test
+    void usesThePooledLoOptimizerWithTheConfiguredBlockSize() {
+        String url = newDatabaseUrl();
+        try (SessionFactory sessionFactory = buildSessionFactory(url, BLOCK_SIZE, "create-drop", new AtomicInteger())) {
+            SequenceStyleGenerator generator = generatorOf(sessionFactory);
+
+            assertThat(generator).isInstanceOf(PooledSequenceIdGenerator.class);
+            assertThat(generator.getOptimizer()).isInstanceOf(PooledLoOptimizer.class);
+            assertThat(generator.getOptimizer().getIncrementSize()).isEqualTo(BLOCK_SIZE);
+        }
+    }
+
+    @Test
+    void fallsBackToTheDefaultBlockSize() {
+        String url = newDatabaseUrl();
+        AtomicInteger sequenceCalls = new AtomicInteger();
+        try (SessionFactory sessionFactory = buildSessionFactory(url, null, "create-drop", sequenceCalls)) {
+            assertThat(generatorOf(sessionFactory).getOptimizer().getIncrementSize())
+                    .isEqualTo(PooledSequenceIdGenerator.DEFAULT_ALLOCATION_SIZE);
+
+            persist(sessionFactory, PooledSequenceIdGenerator.DEFAULT_ALLOCATION_SIZE + 1);
+
+            assertThat(sequenceCalls.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void concurrentInsertsGetUniqueIdsWithOneSequenceCallPerBlock() throws Exception {
+        String url = newDatabaseUrl();
+        AtomicInteger sequenceCalls = new AtomicInteger();
+        try (SessionFactory sessionFactory = buildSessionFactory(url, BLOCK_SIZE, "create-drop", sequenceCalls)) {
+            List<List<Long>> idsPerThread = persistConcurrently(sessionFactory);
+
+            List<Long> ids = new ArrayList<>();
+            for (List<Long> threadIds : idsPerThread) {
+                // Each caller sees its ids increase
+                for (int i = 1; i < threadIds.size(); i++) {
+                    assertThat(threadIds.get(i)).isGreaterThan(threadIds.get(i - 1));
+                }
+                ids.addAll(threadIds);
+            }
+
+            int rows = THREADS * ROWS_PER_THREAD;
+            assertThat(new HashSet<>(ids)).hasSize(rows);
+            assertThat(sequenceCalls.get()).isEqualTo((rows + BLOCK_SIZE - 1) / BLOCK_SIZE);
+            // One node uses its blocks completely, the ids leave no gap
+            assertThat(ids.stream().mapToLong(Long::longValue).max().getAsLong()
+                    - ids.stream().mapToLong(Long::longValue).min().getAsLong() + 1).isEqualTo(rows);
+        }
+    }
+
+    @Test
+    void gapsAfterRestartsAreBoundedByTheBlockSize() {
+        String url = newDatabaseUrl();
+        List<Long> ids = new ArrayList<>();
+
+        // Every restart abandons the unused part of its last block
+        for (int restart = 0; restart < 5; restart++) {
+            String ddl = restart == 0 ? "create" : "none";
+            try (SessionFactory sessionFactory = buildSessionFactory(url, BLOCK_SIZE, ddl, new AtomicInteger())) {
+                ids.addAll(persist(sessionFactory, BLOCK_SIZE / 2 + restart * 3));
+            }
+        }
+
+        List<Long> sorted = ids.stream().sorted().toList();
+        assertThat(new HashSet<>(sorted)).hasSize(sorted.size());
+        for (int i = 1; i < sorted.size(); i++) {
+            assertThat(sorted.get(i) - sorted.get(i - 1)).isBetween(1L, (long) BLOCK_SIZE);
+        }
+    }
+
+    private List<List<Long>> persistConcurrently(SessionFactory sessionFactory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Callable<List<Long>> task = () -> {
+                    start.await();
+                    return persist(sessionFactory, ROWS_PER_THREAD);
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            List<List<Long>> idsPerThread = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                idsPerThread.add(future.get());
+            }
+            return idsPerThread;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // One transaction per row, like concurrent API calls
+    private List<Long> persist(SessionFactory sessionFactory, int rows) {
+        List<Long> ids = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Course entity = newRow(rowNumber.incrementAndGet());
+            sessionFactory.inTransaction(session -> session.persist(entity));
+            ids.add(entity.getId());
+        }
+        return ids;
+    }
+
+    private static Course newRow(long number) {
+        return Course.builder()
+                .title("Course " + number)
+                .courseCode("CS " + number)
+                .description("Course number " + number)
+                .build();
+    }
+
+    private static SequenceStyleGenerator generatorOf(SessionFactory sessionFactory) {
+        Generator generator = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(Course.class)
+                .getGenerator();
+        assertThat(generator).isInstanceOf(SequenceStyleGenerator.class);
+        return (SequenceStyleGenerator) generator;
+    }
+
+    private static SessionFactory buildSessionFactory(String url, Integer allocationSize, String ddl, AtomicInteger sequenceCalls) {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Course.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.POOL_SIZE, String.valueOf(THREADS + 2))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, ddl);
+        if (allocationSize != null) {
+            configuration.setProperty(PooledSequenceIdGenerator.ALLOCATION_SIZE_SETTING, allocationSize.toString());
+        }
+        configuration.setStatementInspector(sql -> {
+            String statement = sql.toLowerCase(Locale.ROOT);
+            if (statement.contains("next value for") || statement.contains("nextval(")) {
+                sequenceCalls.incrementAndGet();
+            }
+            return sql;
+        });
+        return configuration.buildSessionFactory();
+    }
+
+    private static String newDatabaseUrl() {
+        return "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    }
+}
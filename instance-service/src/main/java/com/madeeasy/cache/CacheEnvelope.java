@@ -0,0 +1,21 @@
+package com.madeeasy.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Cached value together with what the early refresh needs: how long it took to compute
+ * and when it becomes stale.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope implements Serializable {
+
+    private Object value;
+    private long computeMillis;
+    private long staleAt;
+}
@@ -0,0 +1,20 @@
+package com.madeeasy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@RefreshScope
+@ConfigurationProperties(prefix = "instance.change-feed")
+public class ChangeFeedProperties {
+    /**
+     * Changes younger than this are held back. Ids are taken before commit, so a slower transaction may still
+     * commit a lower id than one already served. Keep this above the longest instance write transaction.
+     */
+    private Duration settleDelay = Duration.ofSeconds(5);
+}
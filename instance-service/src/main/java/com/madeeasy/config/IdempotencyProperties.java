@@ -0,0 +1,24 @@
+package com.madeeasy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@RefreshScope
+@ConfigurationProperties(prefix = "instance.idempotency")
+public class IdempotencyProperties {
+    /**
+     * How long the outcome of a request sent with an {@code Idempotency-Key} is replayed to retries.
+     */
+    private Duration retention = Duration.ofHours(24);
+    /**
+     * How long a key stays reserved while its first request runs. A crashed request frees the key after this.
+     */
+    private Duration lockTimeout = Duration.ofSeconds(30);
+    private int maxKeyLength = 255;
+}
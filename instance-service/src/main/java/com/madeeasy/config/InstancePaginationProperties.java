@@ -0,0 +1,15 @@
+package com.madeeasy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@RefreshScope
+@ConfigurationProperties(prefix = "instance.pagination")
+public class InstancePaginationProperties {
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,30 @@
+package com.madeeasy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.stampede")
+public class StampedeProtectionProperties {
+    /**
+     * Age after which an entry is considered stale and refreshed by a single caller.
+     */
+    private Duration softTtl = Duration.ofMinutes(5);
+    /**
+     * Weight of the probabilistic early refresh, higher values refresh earlier.
+     */
+    private double beta = 1.0;
+    /**
+     * How long a loading lease is held in Redis before other instances may take over.
+     */
+    private Duration leaseTtl = Duration.ofSeconds(10);
+    /**
+     * How long callers without the lease wait for the value before loading it themselves.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(2);
+    private Duration pollInterval = Duration.ofMillis(50);
+}
@@ -0,0 +1,19 @@
+package com.madeeasy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "instance.term-index")
+public class TermIndexProperties {
+    /**
+     * Whether year/semester lookups are answered from the in-process term index. Read once at startup.
+     */
+    private boolean enabled = false;
+    /**
+     * Upper bound of change log entries applied per refresh run.
+     */
+    private int refreshBatchSize = 500;
+}
@@ -1,16 +1,26 @@
 package com.madeeasy.controller;
 
+import com.madeeasy.config.InstancePaginationProperties;
+import com.madeeasy.dto.request.BulkCourseInstanceRequestDTO;
 import com.madeeasy.dto.request.CourseInstanceRequestDTO;
+import com.madeeasy.dto.response.BulkCourseInstanceResponseDTO;
+import com.madeeasy.dto.response.CourseInstanceChangePageResponseDTO;
+import com.madeeasy.dto.response.CourseInstancePageResponseDTO;
 import com.madeeasy.dto.response.CourseInstanceResponseDTO;
+import com.madeeasy.idempotency.IdempotentRequestExecutor;
 import com.madeeasy.service.CourseInstanceService;
 import com.madeeasy.util.ValidationUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,10 +31,33 @@ import java.util.Map;
 @Validated
 public class InstanceController {
 
+    // Clients may keep the response but must revalidate it with If-None-Match
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final CourseInstanceService instanceService;
+    private final InstancePaginationProperties paginationProperties;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
 
     @PostMapping
-    public ResponseEntity<?> createInstance(@Valid @RequestBody CourseInstanceRequestDTO instance) {
+    public ResponseEntity<?> createInstance(@RequestHeader(name = IdempotentRequestExecutor.HEADER, required = false) String idempotencyKey,
+                                            @Valid @RequestBody CourseInstanceRequestDTO instance) {
+        if (idempotencyKey == null) {
+            return create(instance);
+        }
+        String fingerprint = instance.getYear() + "-" + instance.getSemester() + "-" + instance.getCourseId();
+        return idempotentRequestExecutor.execute("create-instance", idempotencyKey, fingerprint, () -> create(instance));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<?> scheduleInstances(@Valid @RequestBody BulkCourseInstanceRequestDTO bulkRequest) {
+        BulkCourseInstanceResponseDTO response = instanceService.scheduleInstances(bulkRequest);
+        if (response.getCreated().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    private ResponseEntity<CourseInstanceResponseDTO> create(CourseInstanceRequestDTO instance) {
         CourseInstanceResponseDTO createdInstance = instanceService.createInstance(instance);
         if (createdInstance.getId() == null) {
             return ResponseEntity.status(createdInstance.getStatus()).body(createdInstance);
@@ -33,12 +66,112 @@ public class InstanceController {
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllInstances() {
+    public ResponseEntity<?> getAllInstances(WebRequest webRequest) {
+        String eTag = instancesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         List<CourseInstanceResponseDTO> instances = instanceService.getAllInstances();
         if (instances.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.OK).body(List.of());
+            return ResponseEntity.status(HttpStatus.OK).eTag(eTag).cacheControl(REVALIDATE).body(List.of());
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(instances);
+    }
+
+    /**
+     * Strong ETag shared by every instance read, it changes with the instance version on each instance write.
+     * Checking it costs a single counter lookup, so a 304 never touches the cache or the database.
+     */
+    private String instancesETag() {
+        return "instances-" + instanceService.getInstancesVersion();
+    }
+
+    @GetMapping("/years")
+    public ResponseEntity<?> getInstancesByYearRange(@RequestParam(name = "from") int fromYear,
+                                                     @RequestParam(name = "to") int toYear,
+                                                     @RequestParam(name = "afterYear", required = false) Integer afterYear,
+                                                     @RequestParam(name = "afterId", defaultValue = "0") Long afterId,
+                                                     @RequestParam(name = "size", required = false) Integer size,
+                                                     WebRequest webRequest) {
+        int pageSize = size != null ? size : paginationProperties.getDefaultPageSize();
+        Map<String, String> validationErrors = new HashMap<>();
+        validationErrors.putAll(ValidationUtils.validatePositiveInteger(fromYear, "from"));
+        if (toYear < fromYear) {
+            validationErrors.put("to", "to must not be before from");
+        }
+        if (afterId < 0) {
+            validationErrors.put("afterId", "afterId must not be negative");
+        }
+        validationErrors.putAll(ValidationUtils.validateRange(pageSize, "size", 1, paginationProperties.getMaxPageSize()));
+        if (!validationErrors.isEmpty()) {
+            return ResponseEntity.badRequest().body(validationErrors);
+        }
+
+        String eTag = instancesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        CourseInstancePageResponseDTO page = instanceService.getInstancesByYearRange(
+                fromYear, toYear, afterYear != null ? afterYear : fromYear, afterId, pageSize);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(page);
+    }
+
+    @GetMapping("/courseId/{courseId}")
+    public ResponseEntity<?> getInstancesByCourseId(@PathVariable Long courseId,
+                                                    @RequestParam(name = "afterId", defaultValue = "0") Long afterId,
+                                                    @RequestParam(name = "size", required = false) Integer size,
+                                                    WebRequest webRequest) {
+        int pageSize = size != null ? size : paginationProperties.getDefaultPageSize();
+        Map<String, String> validationErrors = new HashMap<>(ValidationUtils.validatePositiveInteger(courseId.intValue(), "courseId"));
+        if (afterId < 0) {
+            validationErrors.put("afterId", "afterId must not be negative");
         }
-        return ResponseEntity.ok(instances);
+        validationErrors.putAll(ValidationUtils.validateRange(pageSize, "size", 1, paginationProperties.getMaxPageSize()));
+        if (!validationErrors.isEmpty()) {
+            return ResponseEntity.badRequest().body(validationErrors);
+        }
+
+        String eTag = instancesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        CourseInstancePageResponseDTO page = instanceService.getInstancesByCourseId(courseId, afterId, pageSize);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(page);
+    }
+
+    @GetMapping("/modified")
+    public ResponseEntity<?> getInstancesModifiedSince(@RequestParam(name = "since") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+                                                       @RequestParam(name = "afterId", defaultValue = "0") Long afterId,
+                                                       @RequestParam(name = "size", required = false) Integer size) {
+        int pageSize = size != null ? size : paginationProperties.getDefaultPageSize();
+        Map<String, String> validationErrors = new HashMap<>();
+        if (afterId < 0) {
+            validationErrors.put("afterId", "afterId must not be negative");
+        }
+        validationErrors.putAll(ValidationUtils.validateRange(pageSize, "size", 1, paginationProperties.getMaxPageSize()));
+        if (!validationErrors.isEmpty()) {
+            return ResponseEntity.badRequest().body(validationErrors);
+        }
+
+        CourseInstancePageResponseDTO page = instanceService.getInstancesModifiedSince(since, afterId, pageSize);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(@RequestParam(name = "after", defaultValue = "0") Long after,
+                                        @RequestParam(name = "size", required = false) Integer size) {
+        int pageSize = size != null ? size : paginationProperties.getDefaultPageSize();
+        Map<String, String> validationErrors = new HashMap<>();
+        if (after < 0) {
+            validationErrors.put("after", "after must not be negative");
+        }
+        validationErrors.putAll(ValidationUtils.validateRange(pageSize, "size", 1, paginationProperties.getMaxPageSize()));
+        if (!validationErrors.isEmpty()) {
+            return ResponseEntity.badRequest().body(validationErrors);
+        }
+
+        CourseInstanceChangePageResponseDTO page = instanceService.getChanges(after, pageSize);
+        return ResponseEntity.ok(page);
     }
 
     @DeleteMapping(path = "/courseId/{courseId}")
@@ -54,7 +187,8 @@ public class InstanceController {
 
     @GetMapping("/{year}/{semester}")
     public ResponseEntity<?> getInstancesByYearAndSemester(@PathVariable int year,
-                                                           @PathVariable int semester) {
+                                                           @PathVariable int semester,
+                                                           WebRequest webRequest) {
         // Validate year and semester
         Map<String, String> validationErrors = new HashMap<>();
         validationErrors.putAll(ValidationUtils.validatePositiveInteger(year, "year")); // Adjust range as needed
@@ -62,14 +196,19 @@ public class InstanceController {
         if (!validationErrors.isEmpty()) {
             return ResponseEntity.badRequest().body(validationErrors);
         }
+        String eTag = instancesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         List<CourseInstanceResponseDTO> instances = instanceService.getInstancesByYearAndSemester(year, semester);
-        return ResponseEntity.ok(instances);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(instances);
     }
 
     @GetMapping("/{year}/{semester}/{courseId}")
     public ResponseEntity<?> getInstanceByYearSemesterAndCourseId(@PathVariable int year,
                                                                   @PathVariable int semester,
-                                                                  @PathVariable Long courseId) {
+                                                                  @PathVariable Long courseId,
+                                                                  WebRequest webRequest) {
         // Validate year, semester, and courseId
         Map<String, String> validationErrors = new HashMap<>();
         validationErrors.putAll(ValidationUtils.validatePositiveInteger(year, "year")); // Adjust range as needed
@@ -79,8 +218,12 @@ public class InstanceController {
         if (!validationErrors.isEmpty()) {
             return ResponseEntity.badRequest().body(validationErrors);
         }
+        String eTag = instancesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         CourseInstanceResponseDTO instance = instanceService.getInstanceByYearSemesterAndCourseId(year, semester, courseId);
-        return ResponseEntity.ok(instance);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(instance);
     }
 
     @DeleteMapping("/{year}/{semester}/{courseId}")
@@ -0,0 +1,34 @@
+package com.madeeasy.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCourseInstanceRequestDTO {
+
+    @NotNull(message = "year cannot be null")
+    @Positive(message = "year must be a positive number")
+    private Integer year;
+
+    @NotNull(message = "semester cannot be null")
+    @Min(value = 1, message = "semester must be between 1 and 10")
+    @Max(value = 10, message = "semester must be between 1 and 10")
+    private Integer semester;
+
+    @NotEmpty(message = "courseIds cannot be empty")
+    @Size(max = 2000, message = "at most 2000 instances can be scheduled in a single request")
+    private List<@NotNull(message = "courseId cannot be null") @Positive(message = "courseId must be a positive number") Long> courseIds;
+}
@@ -0,0 +1,20 @@
+package com.madeeasy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCourseInstanceConflictDTO {
+
+    /**
+     * Position of the rejected course id in the request.
+     */
+    private int index;
+    private Long courseId;
+    private String message;
+}
@@ -0,0 +1,18 @@
+package com.madeeasy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCourseInstanceResponseDTO {
+
+    private List<CourseInstanceResponseDTO> created;
+    private List<BulkCourseInstanceConflictDTO> conflicts;
+}
@@ -0,0 +1,27 @@
+package com.madeeasy.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.madeeasy.entity.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CourseInstanceChangeDTO implements Serializable {
+
+    private Long cursor;
+    private ChangeType type;
+    private Long instanceId;
+    private Integer year;
+    private Integer semester;
+    private Long courseId;
+    private Instant changedAt;
+}
@@ -0,0 +1,26 @@
+package com.madeeasy.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CourseInstanceChangePageResponseDTO implements Serializable {
+
+    private List<CourseInstanceChangeDTO> changes;
+    private int size;
+    private boolean hasMore;
+    /**
+     * Cursor to pass back as {@code after} on the next poll, unchanged when there was nothing new.
+     */
+    private Long nextCursor;
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.http.HttpStatus;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 @Data
 @Builder
@@ -20,6 +21,10 @@ public class CourseInstanceResponseDTO implements Serializable {
     private Integer year;
     private Integer semester;
     private Long courseId;
+    private String courseTitle;
+    private String courseCode;
+    private Long version;
+    private Instant lastModifiedAt;
     private String message;
     private HttpStatus status;
 }
@@ -1,26 +1,40 @@
 package com.madeeasy.entity;
 
+import com.madeeasy.generator.PooledSequenceIdGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        // One instance per course and term. Also serves lookups by year and semester through its leading columns
+        @Index(name = "uk_course_instance_year_semester_course", columnList = "instance_year, semester, course_id", unique = true),
+        // Keyset order of a course's history and of a year range
+        @Index(name = "idx_course_instance_course_id", columnList = "course_id, id"),
+        @Index(name = "idx_course_instance_year_id", columnList = "instance_year, id"),
+        @Index(name = "idx_course_instance_last_modified_at", columnList = "last_modified_at, id")
+})
 public class CourseInstance implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_instance_sequence_generator")
-    @SequenceGenerator(
+    @GeneratedValue(generator = "course_instance_sequence_generator")
+    @GenericGenerator(
             name = "course_instance_sequence_generator",
-            sequenceName = "course_instance_sequence",
-            allocationSize = 1
+            type = PooledSequenceIdGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "course_instance_sequence")
     )
     private Long id;
 
@@ -32,4 +46,24 @@ public class CourseInstance implements Serializable {
 
     @Column(name = "course_id", nullable = false)
     private Long courseId;
+
+    /**
+     * Denormalized from the course so instance lists need no lookup in course-service. Courses are never
+     * edited, the copy only has to be written once.
+     */
+    @Column(name = "course_title")
+    private String courseTitle;
+
+    @Column(name = "course_code")
+    private String courseCode;
+
+    @Version
+    private Long version;
+
+    /**
+     * Set on insert and on every update, drives the incremental "modified since" queries.
+     */
+    @UpdateTimestamp
+    @Column(name = "last_modified_at")
+    private Instant lastModifiedAt;
 }
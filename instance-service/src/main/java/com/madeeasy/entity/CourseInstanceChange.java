@@ -0,0 +1,51 @@
+package com.madeeasy.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * One row per instance write, appended in the same transaction as the write. The id is the feed cursor.
+ * <p>
+ * The sequence deliberately hands out one id per call: pooled blocks would let instances interleave their
+ * ids, and a consumer that already moved past a block would never see rows written later from below it.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "course_instance_change_log")
+public class CourseInstanceChange implements Serializable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_instance_change_log_sequence_generator")
+    @SequenceGenerator(name = "course_instance_change_log_sequence_generator", sequenceName = "course_instance_change_log_sequence", allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ChangeType type;
+
+    @Column(name = "instance_id", nullable = false)
+    private Long instanceId;
+
+    @Column(name = "instance_year", nullable = false)
+    private int year;
+
+    @Column(nullable = false)
+    private int semester;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @CreationTimestamp
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
@@ -0,0 +1,32 @@
+package com.madeeasy.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Local copy of the course details instances are displayed with, kept from course-service events and lookups.
+ * Courses are never edited, so a row stays valid until the course is deleted.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "course_summary")
+public class CourseSummary implements Serializable {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(name = "course_code", nullable = false)
+    private String courseCode;
+}
@@ -0,0 +1,61 @@
+package com.madeeasy.event;
+
+import com.madeeasy.entity.CourseSummary;
+import com.madeeasy.replica.CourseReplica;
+import com.madeeasy.repository.CourseSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the {@link CourseReplica} and the course details in step with course-service. Deletions are applied by {@link CourseDeletedListener}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseCatalogListener {
+
+    private final CourseReplica courseReplica;
+    private final CourseSummaryRepository courseSummaryRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final BusProperties busProperties;
+    private final Destination.Factory destinationFactory;
+
+    @EventListener
+    public void onCoursesCreated(CoursesCreatedEvent event) {
+        // Details first, a course in the replica is expected to have them
+        courseSummaryRepository.saveAll(event.getCourses().stream()
+                .map(course -> CourseSummary.builder()
+                        .courseId(course.getId())
+                        .title(course.getTitle())
+                        .courseCode(course.getCourseCode())
+                        .build())
+                .toList());
+        courseReplica.add(event.getCourses().stream().map(CoursesCreatedEvent.CreatedCourse::getId).toList(), event.getTimestamp());
+    }
+
+    @EventListener
+    public void onCatalogSnapshot(CourseCatalogSnapshotEvent event) {
+        courseReplica.replace(event.getFromId(), event.getToId(), event.getCourseIds(), event.getTakenAt());
+        log.debug("Course replica reconciled from {} for ids {} to {}, {} courses", event.getOriginService(),
+                event.getFromId(), event.getToId(), courseReplica.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestSnapshot() {
+        try {
+            applicationEventPublisher.publishEvent(new CourseCatalogSnapshotRequestedEvent(
+                    this,
+                    busProperties.getId(),
+                    destinationFactory.getDestination("course-service")));
+        } catch (Exception e) {
+            // The replica fills with the next scheduled snapshot, lookups fall back to course-service until then
+            log.warn("Failed to request a course catalog snapshot, message : {}", e.getMessage());
+        }
+    }
+}
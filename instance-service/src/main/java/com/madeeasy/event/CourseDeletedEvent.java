@@ -0,0 +1,31 @@
+package com.madeeasy.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * Sent over Spring Cloud Bus by course-service after a course was soft-deleted, asking instance-service
+ * to purge the instances of that course. Re-sent until the purge is acknowledged with a
+ * {@link CourseInstancesPurgedEvent}, so consumers must handle duplicates.
+ */
+@Getter
+@Setter
+public class CourseDeletedEvent extends RemoteApplicationEvent {
+
+    private Long courseId;
+    private String courseCode;
+
+    @SuppressWarnings("unused")
+    public CourseDeletedEvent() {
+        // for deserialization
+    }
+
+    public CourseDeletedEvent(Object source, String originService, Destination destination,
+                              Long courseId, String courseCode) {
+        super(source, originService, destination);
+        this.courseId = courseId;
+        this.courseCode = courseCode;
+    }
+}
@@ -0,0 +1,43 @@
+package com.madeeasy.event;
+
+import com.madeeasy.replica.CourseReplica;
+import com.madeeasy.service.CourseInstanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Instance side of the course deletion saga: purges the instances of a deleted course and confirms it,
+ * duplicates of the same request purge nothing and confirm with zero.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseDeletedListener {
+
+    private final CourseInstanceService courseInstanceService;
+    private final CourseReplica courseReplica;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final BusProperties busProperties;
+    private final Destination.Factory destinationFactory;
+
+    @EventListener
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        // Before the purge, so no instance of the course can be created behind it
+        courseReplica.remove(event.getCourseId(), event.getTimestamp());
+        int instancesDeleted = courseInstanceService.purgeInstancesByCourseId(event.getCourseId());
+        log.info("Purged {} instances of deleted course : {}", instancesDeleted, event.getCourseId());
+
+        // Not caught: without the confirmation course-service simply asks again
+        applicationEventPublisher.publishEvent(new CourseInstancesPurgedEvent(
+                this,
+                busProperties.getId(),
+                destinationFactory.getDestination(null),
+                event.getCourseId(),
+                instancesDeleted));
+    }
+}
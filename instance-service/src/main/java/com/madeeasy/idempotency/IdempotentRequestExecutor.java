@@ -0,0 +1,116 @@
+package com.madeeasy.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madeeasy.config.IdempotencyProperties;
+import com.madeeasy.dto.response.CourseInstanceResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request sent with an {@code Idempotency-Key} header at most once per key.
+ * <p>
+ * -> The first request reserves the key in Redis, runs, and stores its response.
+ * -> Retries with the same key and body get the stored response replayed, without touching the database.
+ * -> A retry arriving while the first request still runs gets 409, reusing a key for another body gets 422.
+ * <p>
+ * Keys are scoped per user. Server errors are not stored, the key is released so the client may retry.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotentRequestExecutor {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+
+    public ResponseEntity<?> execute(String operation, String idempotencyKey, String fingerprint,
+                                     Supplier<ResponseEntity<CourseInstanceResponseDTO>> request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > properties.getMaxKeyLength()) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of(HEADER, "must be between 1 and " + properties.getMaxKeyLength() + " characters"));
+        }
+        String redisKey = KEY_PREFIX + operation + ":" + currentUser() + ":" + idempotencyKey;
+
+        String reservation = write(IdempotentResponse.builder().fingerprint(fingerprint).build());
+        Boolean reserved = stringRedisTemplate.opsForValue().setIfAbsent(redisKey, reservation, properties.getLockTimeout());
+        if (!Boolean.TRUE.equals(reserved)) {
+            return replay(redisKey, fingerprint);
+        }
+
+        ResponseEntity<CourseInstanceResponseDTO> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            stringRedisTemplate.delete(redisKey);
+            throw e;
+        }
+
+        if (response.getStatusCode().is5xxServerError()) {
+            stringRedisTemplate.delete(redisKey);
+        } else {
+            stringRedisTemplate.opsForValue().set(redisKey, write(IdempotentResponse.builder()
+                    .fingerprint(fingerprint)
+                    .status(response.getStatusCode().value())
+                    .body(response.getBody())
+                    .build()), properties.getRetention());
+        }
+        return response;
+    }
+
+    private ResponseEntity<?> replay(String redisKey, String fingerprint) {
+        String stored = stringRedisTemplate.opsForValue().get(redisKey);
+        if (stored == null) {
+            // Released in the meantime, the client may simply retry
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of(HEADER, "A request with this key has just failed, retry it"));
+        }
+        IdempotentResponse response = read(stored);
+        if (!fingerprint.equals(response.getFingerprint())) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(Map.of(HEADER, "Already used for a different request"));
+        }
+        if (response.isInProgress()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of(HEADER, "A request with this key is still being processed"));
+        }
+        log.debug("Replaying stored response for {}", redisKey);
+        return ResponseEntity.status(response.getStatus())
+                .header("Idempotent-Replayed", "true")
+                .body(response.getBody());
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    private String write(IdempotentResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to store idempotent response", e);
+        }
+    }
+
+    private IdempotentResponse read(String stored) {
+        try {
+            return objectMapper.readValue(stored, IdempotentResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read idempotent response", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.madeeasy.idempotency;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.madeeasy.dto.response.CourseInstanceResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What is kept per idempotency key: the request it was first used with and, once that request finished,
+ * the response to replay. A reserved key has no status yet.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotentResponse {
+
+    private String fingerprint;
+    private Integer status;
+    private CourseInstanceResponseDTO body;
+
+    @JsonIgnore
+    public boolean isInProgress() {
+        return status == null;
+    }
+}
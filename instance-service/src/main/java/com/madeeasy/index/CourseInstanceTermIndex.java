@@ -0,0 +1,265 @@
+package com.madeeasy.index;
+
+import com.madeeasy.dto.response.CourseInstanceResponseDTO;
+import com.madeeasy.repository.projection.CourseInstanceView;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-process index of all course instances by term, answering the year/semester and year/semester/course
+ * lookups without Redis or the database.
+ * <p>
+ * Year and semester are packed into one int per term. A term holds its instances in parallel primitive arrays
+ * sorted by course id, found by binary search, so an instance costs about 36 bytes plus its share of the arrays.
+ * Course title and code are kept once per course, not once per instance.
+ * <p>
+ * Terms are immutable and replaced on every write, writes are serialized, reads are lock free.
+ * The index only answers once {@link #isReady() loaded}, see {@link CourseInstanceTermIndexLoader}.
+ */
+@Component
+public class CourseInstanceTermIndex {
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final int SEMESTER_BITS = 5;
+    private static final int MAX_SEMESTER = (1 << SEMESTER_BITS) - 1;
+
+    private volatile Map<Integer, Term> terms = new ConcurrentHashMap<>();
+    private final Map<Long, CourseLabel> courseLabels = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<CourseInstanceResponseDTO> find(int year, int semester) {
+        if (!isIndexable(semester)) {
+            return List.of();
+        }
+        Term term = terms.get(termKey(year, semester));
+        if (term == null) {
+            return List.of();
+        }
+        List<CourseInstanceResponseDTO> instances = new ArrayList<>(term.size());
+        for (int i = 0; i < term.size(); i++) {
+            instances.add(term.toResponse(i, year, semester, courseLabels));
+        }
+        return instances;
+    }
+
+    public Optional<CourseInstanceResponseDTO> find(int year, int semester, long courseId) {
+        if (!isIndexable(semester)) {
+            return Optional.empty();
+        }
+        Term term = terms.get(termKey(year, semester));
+        int position = term == null ? -1 : term.indexOf(courseId);
+        return position < 0 ? Optional.empty() : Optional.of(term.toResponse(position, year, semester, courseLabels));
+    }
+
+    /**
+     * Adds the instance or replaces the one of the same course in the same term.
+     */
+    public synchronized void put(CourseInstanceView instance) {
+        label(instance.getCourseId(), instance.getCourseTitle(), instance.getCourseCode());
+        terms.compute(termKey(instance.getYear(), instance.getSemester()),
+                (key, term) -> (term == null ? Term.EMPTY : term).with(instance));
+    }
+
+    public synchronized void remove(int year, int semester, long courseId) {
+        terms.computeIfPresent(termKey(year, semester), (key, term) -> {
+            Term remaining = term.without(courseId);
+            return remaining.size() == 0 ? null : remaining;
+        });
+    }
+
+    public synchronized void label(long courseId, String title, String courseCode) {
+        if (title != null || courseCode != null) {
+            courseLabels.put(courseId, new CourseLabel(title, courseCode));
+        }
+    }
+
+    /**
+     * Replaces the whole content, the instances must come ordered by year, semester and course id.
+     */
+    public synchronized void load(Stream<CourseInstanceView> instances) {
+        Map<Integer, TermBuilder> builders = new HashMap<>();
+        instances.forEach(instance -> {
+            label(instance.getCourseId(), instance.getCourseTitle(), instance.getCourseCode());
+            builders.computeIfAbsent(termKey(instance.getYear(), instance.getSemester()), key -> new TermBuilder())
+                    .add(instance);
+        });
+        Map<Integer, Term> loaded = new ConcurrentHashMap<>();
+        builders.forEach((key, builder) -> loaded.put(key, builder.build()));
+        terms = loaded;
+        ready = true;
+    }
+
+    public int size() {
+        return terms.values().stream().mapToInt(Term::size).sum();
+    }
+
+    // The API accepts semesters 1 to 20, the low five bits hold up to 31 so no semester spills into the year
+    static int termKey(int year, int semester) {
+        if (!isIndexable(semester)) {
+            throw new IllegalArgumentException("Semester out of the indexable range : " + semester);
+        }
+        return year << SEMESTER_BITS | semester;
+    }
+
+    private static boolean isIndexable(int semester) {
+        return semester >= 0 && semester <= MAX_SEMESTER;
+    }
+
+    private record CourseLabel(String title, String courseCode) {
+    }
+
+    private static final class Term {
+
+        static final Term EMPTY = new Term(new long[0], new long[0], new long[0], new long[0], new int[0]);
+
+        final long[] courseIds;
+        final long[] ids;
+        final long[] versions;
+        final long[] modifiedSeconds;
+        final int[] modifiedNanos;
+
+        Term(long[] courseIds, long[] ids, long[] versions, long[] modifiedSeconds, int[] modifiedNanos) {
+            this.courseIds = courseIds;
+            this.ids = ids;
+            this.versions = versions;
+            this.modifiedSeconds = modifiedSeconds;
+            this.modifiedNanos = modifiedNanos;
+        }
+
+        int size() {
+            return courseIds.length;
+        }
+
+        int indexOf(long courseId) {
+            return Arrays.binarySearch(courseIds, courseId);
+        }
+
+        Term with(CourseInstanceView instance) {
+            int position = indexOf(instance.getCourseId());
+            Term term = this;
+            if (position < 0) {
+                position = -position - 1;
+                term = new Term(
+                        insertGap(courseIds, position),
+                        insertGap(ids, position),
+                        insertGap(versions, position),
+                        insertGap(modifiedSeconds, position),
+                        insertGap(modifiedNanos, position));
+            } else {
+                term = new Term(courseIds.clone(), ids.clone(), versions.clone(), modifiedSeconds.clone(), modifiedNanos.clone());
+            }
+            term.set(position, instance);
+            return term;
+        }
+
+        Term without(long courseId) {
+            int position = indexOf(courseId);
+            if (position < 0) {
+                return this;
+            }
+            return new Term(
+                    removeAt(courseIds, position),
+                    removeAt(ids, position),
+                    removeAt(versions, position),
+                    removeAt(modifiedSeconds, position),
+                    removeAt(modifiedNanos, position));
+        }
+
+        void set(int position, CourseInstanceView instance) {
+            courseIds[position] = instance.getCourseId();
+            ids[position] = instance.getId();
+            versions[position] = instance.getVersion() == null ? -1 : instance.getVersion();
+            Instant lastModifiedAt = instance.getLastModifiedAt();
+            modifiedSeconds[position] = lastModifiedAt == null ? NO_TIMESTAMP : lastModifiedAt.getEpochSecond();
+            modifiedNanos[position] = lastModifiedAt == null ? 0 : lastModifiedAt.getNano();
+        }
+
+        CourseInstanceResponseDTO toResponse(int position, int year, int semester, Map<Long, CourseLabel> courseLabels) {
+            CourseLabel label = courseLabels.get(courseIds[position]);
+            return CourseInstanceResponseDTO.builder()
+                    .id(ids[position])
+                    .year(year)
+                    .semester(semester)
+                    .courseId(courseIds[position])
+                    .courseTitle(label == null ? null : label.title())
+                    .courseCode(label == null ? null : label.courseCode())
+                    .version(versions[position] < 0 ? null : versions[position])
+                    .lastModifiedAt(modifiedSeconds[position] == NO_TIMESTAMP
+                            ? null
+                            : Instant.ofEpochSecond(modifiedSeconds[position], modifiedNanos[position]))
+                    .build();
+        }
+
+        private static long[] insertGap(long[] values, int position) {
+            long[] copy = new long[values.length + 1];
+            System.arraycopy(values, 0, copy, 0, position);
+            System.arraycopy(values, position, copy, position + 1, values.length - position);
+            return copy;
+        }
+
+        private static int[] insertGap(int[] values, int position) {
+            int[] copy = new int[values.length + 1];
+            System.arraycopy(values, 0, copy, 0, position);
+            System.arraycopy(values, position, copy, position + 1, values.length - position);
+            return copy;
+        }
+
+        private static long[] removeAt(long[] values, int position) {
+            long[] copy = new long[values.length - 1];
+            System.arraycopy(values, 0, copy, 0, position);
+            System.arraycopy(values, position + 1, copy, position, values.length - position - 1);
+            return copy;
+        }
+
+        private static int[] removeAt(int[] values, int position) {
+            int[] copy = new int[values.length - 1];
+            System.arraycopy(values, 0, copy, 0, position);
+            System.arraycopy(values, position + 1, copy, position, values.length - position - 1);
+            return copy;
+        }
+    }
+
+    /**
+     * Collects the instances of one term during a full load, growing its arrays geometrically.
+     */
+    private static final class TermBuilder {
+
+        private Term term = new Term(new long[8], new long[8], new long[8], new long[8], new int[8]);
+        private int size;
+
+        void add(CourseInstanceView instance) {
+            if (size == term.size()) {
+                int capacity = size * 2;
+                term = new Term(
+                        Arrays.copyOf(term.courseIds, capacity),
+                        Arrays.copyOf(term.ids, capacity),
+                        Arrays.copyOf(term.versions, capacity),
+                        Arrays.copyOf(term.modifiedSeconds, capacity),
+                        Arrays.copyOf(term.modifiedNanos, capacity));
+            }
+            term.set(size++, instance);
+        }
+
+        Term build() {
+            return new Term(
+                    Arrays.copyOf(term.courseIds, size),
+                    Arrays.copyOf(term.ids, size),
+                    Arrays.copyOf(term.versions, size),
+                    Arrays.copyOf(term.modifiedSeconds, size),
+                    Arrays.copyOf(term.modifiedNanos, size));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.madeeasy.index;
+
+import com.madeeasy.config.ChangeFeedProperties;
+import com.madeeasy.config.TermIndexProperties;
+import com.madeeasy.entity.CourseInstanceChange;
+import com.madeeasy.repository.CourseInstanceChangeRepository;
+import com.madeeasy.repository.CourseInstanceRepository;
+import com.madeeasy.repository.projection.CourseInstanceView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Fills the {@link CourseInstanceTermIndex} from the database once the application has started and keeps
+ * it in step by tailing the instance change log, which also carries the writes of other instances.
+ * <p>
+ * Changes are read once older than the change feed settle delay, and the load starts that far back, so
+ * no write committing late is skipped. For every change the current row is read again, applying a change
+ * twice is harmless.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseInstanceTermIndexLoader {
+
+    private final CourseInstanceRepository courseInstanceRepository;
+    private final CourseInstanceChangeRepository courseInstanceChangeRepository;
+    private final CourseInstanceTermIndex termIndex;
+    private final TermIndexProperties properties;
+    private final ChangeFeedProperties changeFeedProperties;
+    private volatile long cursor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndex() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        cursor = courseInstanceChangeRepository
+                .findFirstByChangedAtLessThanEqualOrderByIdDesc(Instant.now().minus(changeFeedProperties.getSettleDelay()))
+                .map(CourseInstanceChange::getId)
+                .orElse(0L);
+        try (Stream<CourseInstanceView> instances = courseInstanceRepository.streamAllViews()) {
+            termIndex.load(instances);
+        }
+        log.info("Course instance term index built with {} instances in {} ms", termIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${instance.term-index.refresh-interval:PT1S}")
+    @Transactional(readOnly = true)
+    public void applyChanges() {
+        if (!termIndex.isReady()) {
+            return;
+        }
+        List<CourseInstanceChange> changes = courseInstanceChangeRepository.findByIdGreaterThanAndChangedAtLessThanEqualOrderByIdAsc(
+                cursor, Instant.now().minus(changeFeedProperties.getSettleDelay()), Limit.of(properties.getRefreshBatchSize()));
+
+        for (CourseInstanceChange change : changes) {
+            courseInstanceRepository.findViewByYearAndSemesterAndCourseId(change.getYear(), change.getSemester(), change.getCourseId())
+                    .ifPresentOrElse(termIndex::put,
+                            () -> termIndex.remove(change.getYear(), change.getSemester(), change.getCourseId()));
+        }
+        if (!changes.isEmpty()) {
+            cursor = changes.get(changes.size() - 1).getId();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.madeeasy.replica;
+
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Local set of the ids of live courses, so creating an instance does not have to ask course-service
+ * whether its course exists.
+ * <p>
+ * Fed by the course create and delete events and replaced, id range by id range, by the periodic catalog snapshot.
+ * Ids are dense sequence values, one bit each. Updates newer than a snapshot, by course-service event
+ * timestamp, are remembered and applied on top of it, so a late snapshot cannot resurrect a deleted course.
+ * <p>
+ * Writes are serialized and copy the set, reads are lock free. A miss is not authoritative: the event may
+ * still be on its way, callers fall back to course-service.
+ */
+@Component
+public class CourseReplica {
+
+    private volatile BitSet courseIds = new BitSet();
+
+    private final Map<Long, Long> addedAt = new HashMap<>();
+    private final Map<Long, Long> removedAt = new HashMap<>();
+
+    public boolean contains(Long courseId) {
+        return isTracked(courseId) && courseIds.get(courseId.intValue());
+    }
+
+    public synchronized void add(Collection<Long> ids, long timestamp) {
+        BitSet updated = (BitSet) courseIds.clone();
+        for (Long id : ids) {
+            if (isTracked(id)) {
+                updated.set(id.intValue());
+                addedAt.put(id, timestamp);
+                removedAt.remove(id);
+            }
+        }
+        courseIds = updated;
+    }
+
+    /**
+     * Records a course course-service vouched for directly. Not remembered across snapshots, those include it anyway.
+     */
+    public synchronized void confirm(Long id) {
+        if (!isTracked(id) || removedAt.containsKey(id) || courseIds.get(id.intValue())) {
+            return;
+        }
+        BitSet updated = (BitSet) courseIds.clone();
+        updated.set(id.intValue());
+        courseIds = updated;
+    }
+
+    public synchronized void remove(Long id, long timestamp) {
+        if (!isTracked(id)) {
+            return;
+        }
+        BitSet updated = (BitSet) courseIds.clone();
+        updated.clear(id.intValue());
+        removedAt.put(id, timestamp);
+        addedAt.remove(id);
+        courseIds = updated;
+    }
+
+    /**
+     * Replaces the ids between {@code fromId} and {@code toId}, both inclusive, with one chunk of a snapshot.
+     * {@code takenAt} is when the chunk was read, updates recorded after it are kept on top of the chunk.
+     */
+    public synchronized void replace(long fromId, long toId, long[] ids, long takenAt) {
+        if (fromId > Integer.MAX_VALUE || toId < 0) {
+            return;
+        }
+        int from = (int) Math.max(fromId, 0);
+        int toExclusive = (int) Math.min(toId, Integer.MAX_VALUE - 1L) + 1;
+
+        BitSet snapshot = (BitSet) courseIds.clone();
+        snapshot.clear(from, toExclusive);
+        for (long id : ids) {
+            if (id >= from && id < toExclusive) {
+                snapshot.set((int) id);
+            }
+        }
+
+        // Keep what happened in the range after the chunk was taken, forget what it already covers
+        addedAt.entrySet().removeIf(entry -> inRange(entry.getKey(), from, toExclusive) && entry.getValue() <= takenAt);
+        removedAt.entrySet().removeIf(entry -> inRange(entry.getKey(), from, toExclusive) && entry.getValue() <= takenAt);
+        addedAt.keySet().forEach(id -> snapshot.set(id.intValue()));
+        removedAt.keySet().forEach(id -> snapshot.clear(id.intValue()));
+
+        courseIds = snapshot;
+    }
+
+    public int size() {
+        return courseIds.cardinality();
+    }
+
+    private static boolean inRange(Long id, int from, int toExclusive) {
+        return id >= from && id < toExclusive;
+    }
+
+    private static boolean isTracked(Long id) {
+        return id != null && id >= 0 && id <= Integer.MAX_VALUE;
+    }
+}
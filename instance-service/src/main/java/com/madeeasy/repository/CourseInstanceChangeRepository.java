@@ -0,0 +1,39 @@
+package com.madeeasy.repository;
+
+import com.madeeasy.entity.CourseInstanceChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CourseInstanceChangeRepository extends JpaRepository<CourseInstanceChange, Long> {
+
+    List<CourseInstanceChange> findByIdGreaterThanAndChangedAtLessThanEqualOrderByIdAsc(Long id, Instant changedAt, Limit limit);
+
+    Optional<CourseInstanceChange> findFirstByChangedAtLessThanEqualOrderByIdDesc(Instant changedAt);
+
+    /**
+     * Records the deletion of every instance of a course in one statement, run right before the instances are deleted.
+     */
+    @Modifying
+    @Query("INSERT INTO CourseInstanceChange (type, instanceId, year, semester, courseId, changedAt) " +
+            "SELECT com.madeeasy.entity.ChangeType.DELETED, ci.id, ci.year, ci.semester, ci.courseId, :changedAt " +
+            "FROM CourseInstance ci WHERE ci.courseId = :courseId")
+    int recordDeletionsOfCourse(@Param("courseId") Long courseId, @Param("changedAt") Instant changedAt);
+
+    /**
+     * Records the update of every instance of a course still missing its details, run right before they are filled.
+     */
+    @Modifying
+    @Query("INSERT INTO CourseInstanceChange (type, instanceId, year, semester, courseId, changedAt) " +
+            "SELECT com.madeeasy.entity.ChangeType.UPDATED, ci.id, ci.year, ci.semester, ci.courseId, :changedAt " +
+            "FROM CourseInstance ci WHERE ci.courseId = :courseId AND ci.courseTitle IS NULL")
+    int recordMissingCourseDetailsOfCourse(@Param("courseId") Long courseId, @Param("changedAt") Instant changedAt);
+}
@@ -1,22 +1,54 @@
 package com.madeeasy.repository;
 
 import com.madeeasy.entity.CourseInstance;
+import com.madeeasy.repository.projection.CourseInstanceTerm;
+import com.madeeasy.repository.projection.CourseInstanceView;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Transactional
 @Repository
 public interface CourseInstanceRepository extends JpaRepository<CourseInstance, Long> {
-    List<CourseInstance> findByYearAndSemester(int year, int semester);
+    String VIEW = "SELECT new com.madeeasy.repository.projection.CourseInstanceView(" +
+            "ci.id, ci.year, ci.semester, ci.courseId, ci.courseTitle, ci.courseCode, ci.version, ci.lastModifiedAt) " +
+            "FROM CourseInstance ci ";
+
+    /**
+     * Forward-only cursor over every instance in term order, must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(VIEW + "ORDER BY ci.year, ci.semester, ci.courseId")
+    Stream<CourseInstanceView> streamAllViews();
+
+    /**
+     * Range scan on the leading columns of the (instance_year, semester, course_id) unique index.
+     */
+    @Query(VIEW + "WHERE ci.year = :year AND ci.semester = :semester")
+    List<CourseInstanceView> findViewsByYearAndSemester(@Param("year") int year, @Param("semester") int semester);
 
-    Optional<CourseInstance> findByYearAndSemesterAndCourseId(int year, int semester, Long courseId);
+    @Query(VIEW + "WHERE ci.year = :year AND ci.semester = :semester AND ci.courseId = :courseId")
+    Optional<CourseInstanceView> findViewByYearAndSemesterAndCourseId(@Param("year") int year,
+                                                                      @Param("semester") int semester,
+                                                                      @Param("courseId") Long courseId);
 
     @Modifying
     @Query("DELETE FROM CourseInstance ci WHERE ci.year = :year AND ci.semester = :semester AND ci.courseId = :courseId")
@@ -25,11 +57,63 @@ public interface CourseInstanceRepository extends JpaRepository<CourseInstance,
             @Param("semester") int semester,
             @Param("courseId") Long courseId);
 
-    List<CourseInstance> findByCourseId(Long courseId);
+    /**
+     * Keyset over (year, id) within the year range, instances after the given position come back in that order.
+     */
+    @Query(VIEW + "WHERE ci.year BETWEEN :fromYear AND :toYear " +
+            "AND (ci.year > :afterYear OR (ci.year = :afterYear AND ci.id > :afterId)) " +
+            "ORDER BY ci.year, ci.id")
+    List<CourseInstanceView> findViewsByYearRange(@Param("fromYear") int fromYear,
+                                                  @Param("toYear") int toYear,
+                                                  @Param("afterYear") int afterYear,
+                                                  @Param("afterId") Long afterId,
+                                                  Limit limit);
+
+    @Query(VIEW + "WHERE ci.courseId = :courseId AND ci.id > :afterId ORDER BY ci.id")
+    List<CourseInstanceView> findViewsByCourseId(@Param("courseId") Long courseId, @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Terms a course is held in, read from the course_id index without loading the instances.
+     */
+    @Query("SELECT DISTINCT new com.madeeasy.repository.projection.CourseInstanceTerm(ci.year, ci.semester) " +
+            "FROM CourseInstance ci WHERE ci.courseId = :courseId")
+    List<CourseInstanceTerm> findTermsByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Terms holding instances of a course stored without its details.
+     */
+    @Query("SELECT DISTINCT new com.madeeasy.repository.projection.CourseInstanceTerm(ci.year, ci.semester) " +
+            "FROM CourseInstance ci WHERE ci.courseId = :courseId AND ci.courseTitle IS NULL")
+    List<CourseInstanceTerm> findTermsWithMissingCourseDetails(@Param("courseId") Long courseId);
 
     @Modifying
     @Query("DELETE FROM CourseInstance ci WHERE ci.courseId = :courseId")
-    void deleteByCourseId(@Param("courseId") Long courseId);
+    int deleteByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Fills the course details of instances stored without them, e.g. before the details were denormalized.
+     */
+    @Modifying
+    @Query("UPDATE CourseInstance ci SET ci.courseTitle = :title, ci.courseCode = :courseCode " +
+            "WHERE ci.courseId = :courseId AND ci.courseTitle IS NULL")
+    int fillMissingCourseDetails(@Param("courseId") Long courseId,
+                                 @Param("title") String title,
+                                 @Param("courseCode") String courseCode);
+
+    /**
+     * Which of the given courses already have an instance in the term, answered from the unique index.
+     */
+    @Query("SELECT ci.courseId FROM CourseInstance ci WHERE ci.year = :year AND ci.semester = :semester AND ci.courseId IN :courseIds")
+    List<Long> findScheduledCourseIds(@Param("year") int year,
+                                      @Param("semester") int semester,
+                                      @Param("courseIds") Collection<Long> courseIds);
 
     boolean existsByYearAndSemesterAndCourseId(int year, int semester, Long courseId);
+
+    /**
+     * Keyset over (lastModifiedAt, id), instances written after the given position come back oldest change first.
+     */
+    @Query("SELECT ci FROM CourseInstance ci WHERE ci.lastModifiedAt > :since OR (ci.lastModifiedAt = :since AND ci.id > :afterId) " +
+            "ORDER BY ci.lastModifiedAt, ci.id")
+    List<CourseInstance> findModifiedSince(@Param("since") Instant since, @Param("afterId") Long afterId, Limit limit);
 }
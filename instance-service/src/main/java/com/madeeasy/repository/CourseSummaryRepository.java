@@ -0,0 +1,9 @@
+package com.madeeasy.repository;
+
+import com.madeeasy.entity.CourseSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CourseSummaryRepository extends JpaRepository<CourseSummary, Long> {
+}
@@ -0,0 +1,15 @@
+package com.madeeasy.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Year and semester an instance is held in, the granularity the instance lists are cached at.
+ */
+@Getter
+@AllArgsConstructor
+public class CourseInstanceTerm {
+
+    private final int year;
+    private final int semester;
+}
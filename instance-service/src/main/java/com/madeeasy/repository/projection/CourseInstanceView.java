@@ -0,0 +1,24 @@
+package com.madeeasy.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Read-only row of an instance, selected column by column for read paths that never write the instance back,
+ * so no entity is hydrated, snapshotted for dirty checking or held in the persistence context.
+ */
+@Getter
+@AllArgsConstructor
+public class CourseInstanceView {
+
+    private final Long id;
+    private final int year;
+    private final int semester;
+    private final Long courseId;
+    private final String courseTitle;
+    private final String courseCode;
+    private final Long version;
+    private final Instant lastModifiedAt;
+}
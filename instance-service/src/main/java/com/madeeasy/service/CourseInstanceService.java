@@ -1,14 +1,21 @@
 package com.madeeasy.service;
 
+import com.madeeasy.dto.request.BulkCourseInstanceRequestDTO;
 import com.madeeasy.dto.request.CourseInstanceRequestDTO;
+import com.madeeasy.dto.response.BulkCourseInstanceResponseDTO;
+import com.madeeasy.dto.response.CourseInstanceChangePageResponseDTO;
+import com.madeeasy.dto.response.CourseInstancePageResponseDTO;
 import com.madeeasy.dto.response.CourseInstanceResponseDTO;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface CourseInstanceService {
 
     CourseInstanceResponseDTO createInstance(CourseInstanceRequestDTO instance);
 
+    BulkCourseInstanceResponseDTO scheduleInstances(BulkCourseInstanceRequestDTO bulkRequest);
+
     List<CourseInstanceResponseDTO> getInstancesByYearAndSemester(int year, int semester);
 
     CourseInstanceResponseDTO getInstanceByYearSemesterAndCourseId(int year, int semester, Long courseId);
@@ -17,5 +24,17 @@ public interface CourseInstanceService {
 
     List<CourseInstanceResponseDTO> getAllInstances();
 
+    CourseInstancePageResponseDTO getInstancesByYearRange(int fromYear, int toYear, int afterYear, Long afterId, int size);
+
+    CourseInstancePageResponseDTO getInstancesByCourseId(Long courseId, Long afterId, int size);
+
+    CourseInstancePageResponseDTO getInstancesModifiedSince(Instant since, Long afterId, int size);
+
     void deleteInstancesByCourseId(Long courseId);
+
+    int purgeInstancesByCourseId(Long courseId);
+
+    long getInstancesVersion();
+
+    CourseInstanceChangePageResponseDTO getChanges(Long after, int size);
 }
@@ -2,27 +2,65 @@ package com.madeeasy.service.impl;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madeeasy.cache.CacheGenerationCounter;
+import com.madeeasy.cache.SingleFlightCacheLoader;
+import com.madeeasy.config.ChangeFeedProperties;
+import com.madeeasy.dto.request.BulkCourseInstanceRequestDTO;
 import com.madeeasy.dto.request.CourseInstanceRequestDTO;
+import com.madeeasy.dto.response.BulkCourseInstanceConflictDTO;
+import com.madeeasy.dto.response.BulkCourseInstanceResponseDTO;
+import com.madeeasy.dto.response.CourseInstanceChangeDTO;
+import com.madeeasy.dto.response.CourseInstanceChangePageResponseDTO;
+import com.madeeasy.dto.response.CourseInstancePageResponseDTO;
 import com.madeeasy.dto.response.CourseInstanceResponseDTO;
+import com.madeeasy.entity.ChangeType;
 import com.madeeasy.entity.CourseInstance;
+import com.madeeasy.entity.CourseInstanceChange;
+import com.madeeasy.entity.CourseSummary;
 import com.madeeasy.exception.CourseInstanceNotFoundException;
+import com.madeeasy.exception.CourseNotFoundException;
+import com.madeeasy.index.CourseInstanceTermIndex;
+import com.madeeasy.repository.CourseInstanceChangeRepository;
+import com.madeeasy.replica.CourseReplica;
 import com.madeeasy.repository.CourseInstanceRepository;
+import com.madeeasy.repository.CourseSummaryRepository;
+import com.madeeasy.repository.projection.CourseInstanceTerm;
+import com.madeeasy.repository.projection.CourseInstanceView;
 import com.madeeasy.service.CourseInstanceService;
+import com.madeeasy.vo.CourseBatchResponseDTO;
 import com.madeeasy.vo.CourseResponseDTO;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -31,48 +69,254 @@ import java.util.List;
 public class CourseInstanceServiceImpl implements CourseInstanceService {
 
     private static final String COURSE_INSTANCE = "courseInstance";
+    private static final String COURSE_INSTANCE_PAGE = "courseInstancePage";
+    // Matches the default course.pagination.max-batch-size of course-service
+    private static final int COURSE_BATCH_SIZE = 100;
     private final CourseInstanceRepository courseInstanceRepository;
+    private final CourseInstanceChangeRepository courseInstanceChangeRepository;
+    private final ChangeFeedProperties changeFeedProperties;
     private final RestTemplate restTemplate;
     private final HttpServletRequest httpServletRequest;
+    private final SingleFlightCacheLoader singleFlightCacheLoader;
+    private final CacheGenerationCounter cacheGenerationCounter;
+    private final CourseReplica courseReplica;
+    private final CourseSummaryRepository courseSummaryRepository;
+    private final CacheManager cacheManager;
+    private final EntityManager entityManager;
+    private final CourseInstanceTermIndex termIndex;
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
 
 
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = COURSE_INSTANCE, key = "'getAllInstances'"),
-            @CacheEvict(value = COURSE_INSTANCE, key = "#year + '-' + #semester")
-    })
     @CircuitBreaker(name = "myCircuitBreaker", fallbackMethod = "fallbackCreateInstance")
     public CourseInstanceResponseDTO createInstance(CourseInstanceRequestDTO instance) {
 
-        String courseServiceUrl = "http://course-service/api/courses/" + instance.getCourseId();
-        String authorizationHeader = httpServletRequest.getHeader(HttpHeaders.AUTHORIZATION);
-
-        ResponseEntity<CourseResponseDTO> courseResponse = fetchCourse(courseServiceUrl, authorizationHeader);
-
-        CourseInstance foundCourseInstance = this.courseInstanceRepository.findByYearAndSemesterAndCourseId(instance.getYear(), instance.getSemester(), instance.getCourseId())
-                .orElse(null);
-        if (foundCourseInstance != null) {
-            return CourseInstanceResponseDTO.builder()
-                    .message("Course instance already exists for the given year and semester")
-                    .status(HttpStatus.BAD_REQUEST)
-                    .build();
+        // Known courses are checked locally, only unknown ones, e.g. created a moment ago, are looked up remotely
+        CourseSummary course = courseReplica.contains(instance.getCourseId())
+                ? courseSummaryRepository.findById(instance.getCourseId()).orElse(null)
+                : null;
+        if (course == null) {
+            course = fetchCourseSummary(instance.getCourseId());
         }
+
+        // No existence check up front, the unique index decides and a duplicate fails the insert
         CourseInstance courseInstance = CourseInstance.builder()
                 .year(instance.getYear())
                 .semester(instance.getSemester())
                 .courseId(instance.getCourseId())
+                .courseTitle(course.getTitle())
+                .courseCode(course.getCourseCode())
                 .build();
 
-        CourseInstance savedInstance = courseInstanceRepository.save(courseInstance);
+        // Flushed right away so a duplicate surfaces here and is answered by the fallback
+        CourseInstance savedInstance = courseInstanceRepository.saveAndFlush(courseInstance);
+        courseInstanceChangeRepository.save(changeOf(ChangeType.CREATED, savedInstance));
+        // Evicted once committed, a read in between would otherwise cache the term without the new instance
+        afterCommit(() -> {
+            Cache cache = Objects.requireNonNull(cacheManager.getCache(COURSE_INSTANCE));
+            cache.evict("getAllInstances");
+            cache.evict(savedInstance.getYear() + "-" + savedInstance.getSemester());
+            instancesChanged();
+            refreshTermIndex(savedInstance.getYear(), savedInstance.getSemester(), savedInstance.getCourseId());
+        });
 
         return CourseInstanceResponseDTO.builder()
                 .id(savedInstance.getId())
                 .year(savedInstance.getYear())
                 .semester(savedInstance.getSemester())
                 .courseId(savedInstance.getCourseId())
+                .courseTitle(savedInstance.getCourseTitle())
+                .courseCode(savedInstance.getCourseCode())
                 .build();
     }
 
+    /**
+     * Schedules many courses in one term with a fixed number of round trips, whatever the number of courses.
+     * <p>
+     * -> Courses are resolved from the local replica in one query, unknown ones from course-service in batches.
+     * -> Courses already scheduled in the term are found with one query and reported, as are unknown courses
+     * and repeated ids, instead of failing the whole request.
+     * -> Inserts are flushed in chunks of the JDBC batch size and the term is evicted from the cache once.
+     */
+    @Override
+    public BulkCourseInstanceResponseDTO scheduleInstances(BulkCourseInstanceRequestDTO bulkRequest) {
+        int year = bulkRequest.getYear();
+        int semester = bulkRequest.getSemester();
+        List<Long> courseIds = bulkRequest.getCourseIds();
+        List<Long> distinctCourseIds = courseIds.stream().distinct().toList();
+        log.info("Scheduling {} courses for year {} semester {}", distinctCourseIds.size(), year, semester);
+
+        Map<Long, CourseSummary> courses = new HashMap<>();
+        courseSummaryRepository.findAllById(distinctCourseIds.stream().filter(courseReplica::contains).toList())
+                .forEach(course -> courses.put(course.getCourseId(), course));
+        List<Long> unknownCourseIds = distinctCourseIds.stream()
+                .filter(courseId -> !courses.containsKey(courseId))
+                .toList();
+        boolean courseServiceAvailable = fetchCourseSummaries(unknownCourseIds, courses);
+
+        Set<Long> scheduled = new HashSet<>(this.courseInstanceRepository.findScheduledCourseIds(year, semester, distinctCourseIds));
+
+        List<CourseInstanceResponseDTO> created = new ArrayList<>();
+        List<BulkCourseInstanceConflictDTO> conflicts = new ArrayList<>();
+        int persisted = 0;
+        for (int index = 0; index < courseIds.size(); index++) {
+            Long courseId = courseIds.get(index);
+            CourseSummary course = courses.get(courseId);
+
+            String conflict = null;
+            if (course == null) {
+                conflict = courseServiceAvailable
+                        ? "Course not found with id : " + courseId
+                        : "Course could not be verified as Course Service is unavailable. Please try again later.";
+            } else if (!scheduled.add(courseId)) {
+                // Already in the term, or an earlier entry of this request scheduled it
+                conflict = "Course instance already exists for the given year and semester";
+            }
+            if (conflict != null) {
+                conflicts.add(BulkCourseInstanceConflictDTO.builder()
+                        .index(index)
+                        .courseId(courseId)
+                        .message(conflict)
+                        .build());
+                continue;
+            }
+
+            CourseInstance courseInstance = CourseInstance.builder()
+                    .year(year)
+                    .semester(semester)
+                    .courseId(courseId)
+                    .courseTitle(course.getTitle())
+                    .courseCode(course.getCourseCode())
+                    .build();
+            entityManager.persist(courseInstance);
+            entityManager.persist(changeOf(ChangeType.CREATED, courseInstance));
+            created.add(CourseInstanceResponseDTO.builder()
+                    .id(courseInstance.getId())
+                    .year(courseInstance.getYear())
+                    .semester(courseInstance.getSemester())
+                    .courseId(courseInstance.getCourseId())
+                    .courseTitle(courseInstance.getCourseTitle())
+                    .courseCode(courseInstance.getCourseCode())
+                    .build());
+
+            // Send each full chunk as one JDBC batch and keep the persistence context small
+            if (jdbcBatchSize > 0 && ++persisted % jdbcBatchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        if (!created.isEmpty()) {
+            afterCommit(() -> {
+                Cache cache = Objects.requireNonNull(cacheManager.getCache(COURSE_INSTANCE));
+                cache.evict("getAllInstances");
+                cache.evict(year + "-" + semester);
+                instancesChanged();
+                if (termIndex.isReady()) {
+                    courseInstanceRepository.findViewsByYearAndSemester(year, semester).forEach(termIndex::put);
+                }
+            });
+        }
+
+        return BulkCourseInstanceResponseDTO.builder()
+                .created(created)
+                .conflicts(conflicts)
+                .build();
+    }
+
+    /**
+     * Looks up courses missing locally in batches of {@value #COURSE_BATCH_SIZE} and keeps their details.
+     *
+     * @return false when course-service could not be asked, the courses remain unresolved
+     */
+    private boolean fetchCourseSummaries(List<Long> courseIds, Map<Long, CourseSummary> courses) {
+        String authorizationHeader = httpServletRequest.getHeader(HttpHeaders.AUTHORIZATION);
+        for (int from = 0; from < courseIds.size(); from += COURSE_BATCH_SIZE) {
+            List<Long> batch = courseIds.subList(from, Math.min(from + COURSE_BATCH_SIZE, courseIds.size()));
+            String courseServiceUrl = "http://course-service/api/courses?ids=" + batch.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+
+            CourseBatchResponseDTO response;
+            try {
+                response = restTemplate.exchange(courseServiceUrl, HttpMethod.GET, createHttpEntityWithToken(authorizationHeader),
+                        CourseBatchResponseDTO.class).getBody();
+            } catch (RestClientException e) {
+                log.error("Failed to look up {} courses, message : {}", batch.size(), e.getMessage());
+                return false;
+            }
+            if (response == null || response.getCourses() == null) {
+                continue;
+            }
+
+            List<CourseSummary> found = response.getCourses().stream()
+                    .map(course -> CourseSummary.builder()
+                            .courseId(course.getId())
+                            .title(course.getTitle())
+                            .courseCode(course.getCourseCode())
+                            .build())
+                    .toList();
+            courseSummaryRepository.saveAll(found);
+            found.forEach(course -> {
+                courseReplica.confirm(course.getCourseId());
+                courses.put(course.getCourseId(), course);
+            });
+        }
+        return true;
+    }
+
+    /**
+     * Asks course-service for a course missing locally and keeps its details, instances stored without them
+     * are completed on the way.
+     */
+    private CourseSummary fetchCourseSummary(Long courseId) {
+        String courseServiceUrl = "http://course-service/api/courses/" + courseId;
+        String authorizationHeader = httpServletRequest.getHeader(HttpHeaders.AUTHORIZATION);
+
+        CourseResponseDTO courseResponse = fetchCourse(courseServiceUrl, authorizationHeader).getBody();
+        if (courseResponse == null) {
+            throw new CourseNotFoundException("Course not found with id : " + courseId);
+        }
+        courseReplica.confirm(courseId);
+
+        CourseSummary course = courseSummaryRepository.save(CourseSummary.builder()
+                .courseId(courseId)
+                .title(courseResponse.getTitle())
+                .courseCode(courseResponse.getCourseCode())
+                .build());
+        fillMissingCourseDetails(course);
+        return course;
+    }
+
+    /**
+     * Completes the instances of the course stored without its details. The change log gets a row per instance so
+     * other nodes refresh them too, locally only the cache entries of the affected terms are evicted.
+     */
+    private void fillMissingCourseDetails(CourseSummary course) {
+        Long courseId = course.getCourseId();
+        List<CourseInstanceTerm> terms = courseInstanceRepository.findTermsWithMissingCourseDetails(courseId);
+        if (terms.isEmpty()) {
+            return;
+        }
+
+        courseInstanceChangeRepository.recordMissingCourseDetailsOfCourse(courseId, Instant.now());
+        courseInstanceRepository.fillMissingCourseDetails(courseId, course.getTitle(), course.getCourseCode());
+
+        afterCommit(() -> {
+            Cache cache = Objects.requireNonNull(cacheManager.getCache(COURSE_INSTANCE));
+            cache.evict("getAllInstances");
+            terms.forEach(term -> {
+                cache.evict(term.getYear() + "-" + term.getSemester());
+                cache.evict(term.getYear() + "-" + term.getSemester() + "-" + courseId);
+            });
+            instancesChanged();
+            termIndex.label(courseId, course.getTitle(), course.getCourseCode());
+        });
+    }
+
     private ResponseEntity<CourseResponseDTO> fetchCourse(String url, String authorizationHeader) {
         HttpEntity<String> entity = createHttpEntityWithToken(authorizationHeader);
         return restTemplate.exchange(url, HttpMethod.GET, entity, CourseResponseDTO.class);
@@ -137,6 +381,14 @@ public class CourseInstanceServiceImpl implements CourseInstanceService {
             }
         }
 
+        // The instance already exists, the unique index rejected the insert
+        if (t instanceof DataIntegrityViolationException) {
+            return CourseInstanceResponseDTO.builder()
+                    .message("Course instance already exists for the given year and semester")
+                    .status(HttpStatus.BAD_REQUEST)
+                    .build();
+        }
+
         // Fallback response if the exception is not HttpClientErrorException or any other case
         return CourseInstanceResponseDTO.builder()
                 .message("Sorry !! Course Instance creation failed as Course Service is unavailable. Please try again later.")
@@ -145,9 +397,17 @@ public class CourseInstanceServiceImpl implements CourseInstanceService {
     }
 
     @Override
-    @Cacheable(value = COURSE_INSTANCE, key = "#year + '-' + #semester", unless = "#result == null")
+    @Cacheable(value = COURSE_INSTANCE, key = "#year + '-' + #semester", condition = "!@courseInstanceTermIndex.ready", unless = "#result == null")
     public List<CourseInstanceResponseDTO> getInstancesByYearAndSemester(int year, int semester) {
-        List<CourseInstance> courseInstance = this.courseInstanceRepository.findByYearAndSemester(year, semester);
+        if (termIndex.isReady()) {
+            List<CourseInstanceResponseDTO> indexed = termIndex.find(year, semester);
+            if (indexed.isEmpty()) {
+                throw new CourseInstanceNotFoundException("Course instance not found for year " + year + " and semester " + semester);
+            }
+            return indexed;
+        }
+
+        List<CourseInstanceView> courseInstance = this.courseInstanceRepository.findViewsByYearAndSemester(year, semester);
 
         if (courseInstance.isEmpty()) {
             throw new CourseInstanceNotFoundException("Course instance not found for year " + year + " and semester " + semester);
@@ -159,17 +419,25 @@ public class CourseInstanceServiceImpl implements CourseInstanceService {
                         .year(instance.getYear())
                         .semester(instance.getSemester())
                         .courseId(instance.getCourseId())
+                        .courseTitle(instance.getCourseTitle())
+                        .courseCode(instance.getCourseCode())
+                        .version(instance.getVersion())
+                        .lastModifiedAt(instance.getLastModifiedAt())
                         .build())
                 .toList();
     }
 
 
     @Override
-    @Cacheable(value = COURSE_INSTANCE, key = "#year + '-' + #semester + '-' + #courseId", unless = "#result == null")
+    @Cacheable(value = COURSE_INSTANCE, key = "#year + '-' + #semester + '-' + #courseId", condition = "!@courseInstanceTermIndex.ready", unless = "#result == null")
     public CourseInstanceResponseDTO getInstanceByYearSemesterAndCourseId(int year, int semester, Long courseId) {
+        if (termIndex.isReady()) {
+            return termIndex.find(year, semester, courseId)
+                    .orElseThrow(() -> new CourseInstanceNotFoundException("Course instance not found for year " + year + " and semester " + semester + " and course id " + courseId));
+        }
 
-        CourseInstance courseInstance = this.courseInstanceRepository
-                .findByYearAndSemesterAndCourseId(year, semester, courseId)
+        CourseInstanceView courseInstance = this.courseInstanceRepository
+                .findViewByYearAndSemesterAndCourseId(year, semester, courseId)
                 .orElseThrow(() -> new CourseInstanceNotFoundException("Course instance not found for year " + year + " and semester " + semester + " and course id " + courseId));
 
         return CourseInstanceResponseDTO.builder()
@@ -177,6 +445,10 @@ public class CourseInstanceServiceImpl implements CourseInstanceService {
                 .year(courseInstance.getYear())
                 .semester(courseInstance.getSemester())
                 .courseId(courseInstance.getCourseId())
+                .courseTitle(courseInstance.getCourseTitle())
+                .courseCode(courseInstance.getCourseCode())
+                .version(courseInstance.getVersion())
+                .lastModifiedAt(courseInstance.getLastModifiedAt())
                 .build();
     }
 
@@ -200,25 +472,36 @@ public class CourseInstanceServiceImpl implements CourseInstanceService {
     @Override
     @Transactional
     @Caching(evict = {
+            @CacheEvict(value = COURSE_INSTANCE, key = "'getAllInstances'"),
             @CacheEvict(value = COURSE_INSTANCE, key = "#year + '-' + #semester"),
             @CacheEvict(value = COURSE_INSTANCE, key = "#year + '-' + #semester + '-' + #courseId")
     })
     public void deleteInstance(int year, int semester, Long courseId) {
-        if (!this.courseInstanceRepository.existsByYearAndSemesterAndCourseId(year, semester, courseId)) {
-            throw new CourseInstanceNotFoundException("Course instance not found for year " + year + " and semester " + semester + " and course id " + courseId);
-        }
+        CourseInstanceView courseInstance = this.courseInstanceRepository.findViewByYearAndSemesterAndCourseId(year, semester, courseId)
+                .orElseThrow(() -> new CourseInstanceNotFoundException("Course instance not found for year " + year + " and semester " + semester + " and course id " + courseId));
         this.courseInstanceRepository
                 .deleteByYearAndSemesterAndCourseId(year, semester, courseId);
+        courseInstanceChangeRepository.save(changeOf(ChangeType.DELETED, courseInstance));
+        afterCommit(() -> {
+            instancesChanged();
+            termIndex.remove(year, semester, courseId);
+        });
     }
 
+    /**
+     * Loaded through {@link SingleFlightCacheLoader} so that a miss on the full list is rebuilt by one caller only.
+     */
     @Override
-    @Cacheable(value = COURSE_INSTANCE, key = "#root.methodName", unless = "#result == null")
     public List<CourseInstanceResponseDTO> getAllInstances() {
+        return singleFlightCacheLoader.get(COURSE_INSTANCE, "getAllInstances", this::loadAllInstances);
+    }
+
+    private List<CourseInstanceResponseDTO> loadAllInstances() {
 
         List<CourseInstance> courseInstance = this.courseInstanceRepository.findAll();
 
         if (courseInstance.isEmpty()) {
-            return List.of();
+            return new ArrayList<>();
         }
         return courseInstance.stream()
                 .map(instance -> CourseInstanceResponseDTO.builder()
@@ -226,19 +509,227 @@ public class CourseInstanceServiceImpl implements CourseInstanceService {
                         .year(instance.getYear())
                         .semester(instance.getSemester())
                         .courseId(instance.getCourseId())
+                        .courseTitle(instance.getCourseTitle())
+                        .courseCode(instance.getCourseCode())
+                        .version(instance.getVersion())
+                        .lastModifiedAt(instance.getLastModifiedAt())
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * One page of the instances held between two years, ordered by year then id. Pass the last instance's year
+     * as {@code afterYear} and {@code nextCursor} as {@code afterId} to continue. Pages are cached under the
+     * current instance version, so any instance write moves readers on to fresh pages.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = COURSE_INSTANCE_PAGE,
+            key = "@cacheGenerationCounter.current('courseInstance') + '-years-' + #fromYear + '-' + #toYear + '-' + #afterYear + '-' + #afterId + '-' + #size")
+    public CourseInstancePageResponseDTO getInstancesByYearRange(int fromYear, int toYear, int afterYear, Long afterId, int size) {
+        return pageOf(this.courseInstanceRepository.findViewsByYearRange(fromYear, toYear, afterYear, afterId, Limit.of(size + 1)), size);
+    }
+
+    /**
+     * One page of a course's instances across all terms, ordered by id.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = COURSE_INSTANCE_PAGE,
+            key = "@cacheGenerationCounter.current('courseInstance') + '-course-' + #courseId + '-' + #afterId + '-' + #size")
+    public CourseInstancePageResponseDTO getInstancesByCourseId(Long courseId, Long afterId, int size) {
+        return pageOf(this.courseInstanceRepository.findViewsByCourseId(courseId, afterId, Limit.of(size + 1)), size);
+    }
+
+    private static CourseInstancePageResponseDTO pageOf(List<CourseInstanceView> courseInstances, int size) {
+        boolean hasMore = courseInstances.size() > size;
+        List<CourseInstanceResponseDTO> page = courseInstances.stream()
+                .limit(size)
+                .map(instance -> CourseInstanceResponseDTO.builder()
+                        .id(instance.getId())
+                        .year(instance.getYear())
+                        .semester(instance.getSemester())
+                        .courseId(instance.getCourseId())
+                        .courseTitle(instance.getCourseTitle())
+                        .courseCode(instance.getCourseCode())
+                        .version(instance.getVersion())
+                        .lastModifiedAt(instance.getLastModifiedAt())
                         .build())
                 .toList();
+
+        return CourseInstancePageResponseDTO.builder()
+                .instances(page)
+                .size(page.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? page.get(page.size() - 1).getId() : null)
+                .build();
     }
 
+    /**
+     * Incremental pull: instances created or changed after the given (lastModifiedAt, id) position.
+     * Pass the last instance's lastModifiedAt as {@code since} and {@code nextCursor} as {@code afterId} to continue.
+     */
     @Override
-    @CacheEvict(value = COURSE_INSTANCE, allEntries = true)
-    public void deleteInstancesByCourseId(Long courseId) {
+    @Transactional(readOnly = true)
+    public CourseInstancePageResponseDTO getInstancesModifiedSince(Instant since, Long afterId, int size) {
+        List<CourseInstance> courseInstances = this.courseInstanceRepository.findModifiedSince(since, afterId, Limit.of(size + 1));
 
-        List<CourseInstance> courseInstance = this.courseInstanceRepository.findByCourseId(courseId);
-        if (courseInstance.isEmpty()) {
+        boolean hasMore = courseInstances.size() > size;
+        List<CourseInstanceResponseDTO> page = courseInstances.stream()
+                .limit(size)
+                .map(instance -> CourseInstanceResponseDTO.builder()
+                        .id(instance.getId())
+                        .year(instance.getYear())
+                        .semester(instance.getSemester())
+                        .courseId(instance.getCourseId())
+                        .courseTitle(instance.getCourseTitle())
+                        .courseCode(instance.getCourseCode())
+                        .version(instance.getVersion())
+                        .lastModifiedAt(instance.getLastModifiedAt())
+                        .build())
+                .toList();
+
+        return CourseInstancePageResponseDTO.builder()
+                .instances(page)
+                .size(page.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+
+    @Override
+    public void deleteInstancesByCourseId(Long courseId) {
+        if (removeInstancesOfCourse(courseId) == 0) {
             throw new CourseInstanceNotFoundException("Course Instance Not found With CourseId : " + courseId);
         }
+    }
+
+    /**
+     * Purge requested by the deletion of a course. Idempotent, a repeated request for the same course removes nothing.
+     */
+    @Override
+    public int purgeInstancesByCourseId(Long courseId) {
+        courseSummaryRepository.deleteById(courseId);
+        return removeInstancesOfCourse(courseId);
+    }
+
+    /**
+     * Set based: the change log rows and the delete are one statement each, whatever the number of instances.
+     * Only the cache entries of the terms the course was held in are evicted, the rest stays warm.
+     */
+    private int removeInstancesOfCourse(Long courseId) {
+        List<CourseInstanceTerm> terms = this.courseInstanceRepository.findTermsByCourseId(courseId);
+        if (terms.isEmpty()) {
+            return 0;
+        }
+
+        courseInstanceChangeRepository.recordDeletionsOfCourse(courseId, Instant.now());
+        int deleted = this.courseInstanceRepository.deleteByCourseId(courseId);
+
+        afterCommit(() -> {
+            Cache cache = Objects.requireNonNull(cacheManager.getCache(COURSE_INSTANCE));
+            cache.evict("getAllInstances");
+            terms.forEach(term -> {
+                cache.evict(term.getYear() + "-" + term.getSemester());
+                cache.evict(term.getYear() + "-" + term.getSemester() + "-" + courseId);
+                termIndex.remove(term.getYear(), term.getSemester(), courseId);
+            });
+            instancesChanged();
+        });
+        return deleted;
+    }
+
+    /**
+     * Changes on every instance write, cheap enough to answer conditional requests before loading anything.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getInstancesVersion() {
+        return cacheGenerationCounter.current(COURSE_INSTANCE);
+    }
+
+    /**
+     * Change feed: entries after the given cursor in write order. Entries younger than the settle delay are
+     * held back so a transaction still committing a lower cursor is not skipped.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CourseInstanceChangePageResponseDTO getChanges(Long after, int size) {
+        Instant settledBefore = Instant.now().minus(changeFeedProperties.getSettleDelay());
+        List<CourseInstanceChange> changes = this.courseInstanceChangeRepository
+                .findByIdGreaterThanAndChangedAtLessThanEqualOrderByIdAsc(after, settledBefore, Limit.of(size + 1));
+
+        boolean hasMore = changes.size() > size;
+        List<CourseInstanceChangeDTO> page = changes.stream()
+                .limit(size)
+                .map(change -> CourseInstanceChangeDTO.builder()
+                        .cursor(change.getId())
+                        .type(change.getType())
+                        .instanceId(change.getInstanceId())
+                        .year(change.getYear())
+                        .semester(change.getSemester())
+                        .courseId(change.getCourseId())
+                        .changedAt(change.getChangedAt())
+                        .build())
+                .toList();
+
+        return CourseInstanceChangePageResponseDTO.builder()
+                .changes(page)
+                .size(page.size())
+                .hasMore(hasMore)
+                .nextCursor(page.isEmpty() ? after : page.get(page.size() - 1).getCursor())
+                .build();
+    }
+
+    private static CourseInstanceChange changeOf(ChangeType type, CourseInstance courseInstance) {
+        return CourseInstanceChange.builder()
+                .type(type)
+                .instanceId(courseInstance.getId())
+                .year(courseInstance.getYear())
+                .semester(courseInstance.getSemester())
+                .courseId(courseInstance.getCourseId())
+                .build();
+    }
+
+    private static CourseInstanceChange changeOf(ChangeType type, CourseInstanceView courseInstance) {
+        return CourseInstanceChange.builder()
+                .type(type)
+                .instanceId(courseInstance.getId())
+                .year(courseInstance.getYear())
+                .semester(courseInstance.getSemester())
+                .courseId(courseInstance.getCourseId())
+                .build();
+    }
+
+    private void instancesChanged() {
+        cacheGenerationCounter.increment(COURSE_INSTANCE);
+    }
+
+    /**
+     * Applies a local write to the term index right away instead of waiting for the change log to be tailed.
+     */
+    private void refreshTermIndex(int year, int semester, Long courseId) {
+        if (!termIndex.isReady()) {
+            return;
+        }
+        courseInstanceRepository.findViewByYearAndSemesterAndCourseId(year, semester, courseId)
+                .ifPresentOrElse(termIndex::put, () -> termIndex.remove(year, semester, courseId));
+    }
 
-        this.courseInstanceRepository.deleteByCourseId(courseId);
+    /**
+     * Runs the given action once the surrounding transaction has committed, or right away without one,
+     * so the version never moves ahead of data that was rolled back.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
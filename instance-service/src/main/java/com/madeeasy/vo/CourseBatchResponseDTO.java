@@ -0,0 +1,12 @@
+package com.madeeasy.vo;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CourseBatchResponseDTO {
+
+    private List<CourseResponseDTO> courses;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,66 @@
+package com.madeeasy.index;
+
+import com.madeeasy.dto.response.CourseInstanceResponseDTO;
+import com.madeeasy.repository.projection.CourseInstanceView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CourseInstanceTermIndexTest {
+
+    private final CourseInstanceTermIndex index = new CourseInstanceTermIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.load(Stream.empty());
+    }
+
+    @Test
+    void highSemesterDoesNotCollideWithTheNextYear() {
+        assertThat(CourseInstanceTermIndex.termKey(2024, 17)).isNotEqualTo(CourseInstanceTermIndex.termKey(2025, 1));
+
+        index.put(view(1L, 2024, 17, 100L));
+        index.put(view(2L, 2025, 1, 200L));
+
+        assertThat(index.find(2024, 17))
+                .extracting(CourseInstanceResponseDTO::getId, CourseInstanceResponseDTO::getYear, CourseInstanceResponseDTO::getSemester)
+                .containsExactly(tuple(1L, 2024, 17));
+        assertThat(index.find(2025, 1))
+                .extracting(CourseInstanceResponseDTO::getId, CourseInstanceResponseDTO::getYear, CourseInstanceResponseDTO::getSemester)
+                .containsExactly(tuple(2L, 2025, 1));
+        assertThat(index.find(2024, 17, 200L)).isEmpty();
+        assertThat(index.find(2025, 1, 100L)).isEmpty();
+    }
+
+    @Test
+    void everyAcceptedSemesterHasItsOwnTerm() {
+        for (int semester = 1; semester <= 20; semester++) {
+            index.put(view(semester, 2024, semester, 100L));
+        }
+
+        for (int semester = 1; semester <= 20; semester++) {
+            assertThat(index.find(2024, semester)).singleElement()
+                    .extracting(CourseInstanceResponseDTO::getId)
+                    .isEqualTo((long) semester);
+        }
+        assertThat(index.find(2025, 1)).isEmpty();
+    }
+
+    @Test
+    void semesterBeyondTheKeyIsNeverServed() {
+        assertThat(index.find(2024, 40)).isEmpty();
+        assertThat(index.find(2024, 40, 100L)).isEmpty();
+        assertThatThrownBy(() -> index.put(view(1L, 2024, 40, 100L))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CourseInstanceView view(long id, int year, int semester, long courseId) {
+        return new CourseInstanceView(id, year, semester, courseId, "Course " + courseId, "CS " + courseId,
+                0L, Instant.parse("2024-09-01T10:15:30Z"));
+    }
+}
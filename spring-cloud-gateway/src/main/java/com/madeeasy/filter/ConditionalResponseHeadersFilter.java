@@ -0,0 +1,43 @@
+package com.madeeasy.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps the conditional GET contract of the downstream services intact through the gateway.
+ * <p>
+ * If-None-Match is forwarded and 304 responses are relayed as they are. Responses carrying an ETag
+ * additionally vary on the Authorization header, so no cache between the gateway and the client hands
+ * a representation validated for one user to another.
+ */
+@Component
+public class ConditionalResponseHeadersFilter implements GlobalFilter, Ordered {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        response.beforeCommit(() -> {
+            HttpHeaders headers = response.getHeaders();
+            if (headers.getETag() != null && !headers.getVary().contains(HttpHeaders.AUTHORIZATION)) {
+                headers.add(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -1,5 +1,8 @@
 package com.madeeasy;
 
+import com.madeeasy.cache.CompactRedisSerializer;
+import com.madeeasy.config.CacheSerializationProperties;
+import com.madeeasy.config.RedisCacheProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -9,6 +12,7 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -16,10 +20,12 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @RefreshScope
 @EnableCaching
@@ -37,9 +43,13 @@ public class UserServiceApplication {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisCacheConfiguration cacheConfiguration,
+                                     RedisCacheProperties redisCacheProperties,
+                                     CacheSerializationProperties serializationProperties) {
         return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig())
+                .cacheDefaults(cacheConfiguration)
+                .withInitialCacheConfigurations(perCacheConfigurations(cacheConfiguration, redisCacheProperties, serializationProperties))
                 .build();
     }
 
@@ -58,11 +68,50 @@ public class UserServiceApplication {
     }
 
     @Bean
-    public RedisCacheConfiguration cacheConfiguration() {
+    public RedisCacheConfiguration cacheConfiguration(RedisCacheProperties redisCacheProperties,
+                                                      CacheSerializationProperties serializationProperties) {
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))  // Default TTL of 10 minutes
+                .entryTtl(redisCacheProperties.getDefaultTtl())
                 .disableCachingNullValues()         // Avoid caching null values
+                .computePrefixWith(formatPrefix(serializationProperties.getFormat()))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        serializerFor(serializationProperties.getFormat(), serializationProperties.getCompressionThreshold())));
     }
-}
\ No newline at end of file
+
+    /**
+     * Applies the TTL and serialization overrides of each configured cache on top of the defaults.
+     */
+    private static Map<String, RedisCacheConfiguration> perCacheConfigurations(RedisCacheConfiguration defaults,
+                                                                               RedisCacheProperties redisCacheProperties,
+                                                                               CacheSerializationProperties serializationProperties) {
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        redisCacheProperties.getCaches().forEach((cacheName, settings) -> {
+            RedisCacheConfiguration configuration = defaults;
+            if (settings.getTtl() != null) {
+                configuration = configuration.entryTtl(settings.getTtl());
+            }
+            if (settings.getFormat() != null) {
+                configuration = configuration
+                        .computePrefixWith(formatPrefix(settings.getFormat()))
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                serializerFor(settings.getFormat(), serializationProperties.getCompressionThreshold())));
+            }
+            configurations.put(cacheName, configuration);
+        });
+        return configurations;
+    }
+
+    private static RedisSerializer<Object> serializerFor(CacheSerializationProperties.Format format, int compressionThreshold) {
+        return switch (format) {
+            case JSON -> new GenericJackson2JsonRedisSerializer();
+            case SMILE -> new CompactRedisSerializer(compressionThreshold);
+        };
+    }
+
+    // The format is part of the key prefix so switching it never reads values written in the other one
+    private static CacheKeyPrefix formatPrefix(CacheSerializationProperties.Format format) {
+        String name = format.name().toLowerCase();
+        return cacheName -> cacheName + "::" + name + "::";
+    }
+}
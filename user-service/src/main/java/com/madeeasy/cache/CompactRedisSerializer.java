@@ -0,0 +1,145 @@
+package com.madeeasy.cache;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis value serializer that stores the Jackson model as Smile instead of JSON.
+ * <p>
+ * -> Property names and repeated strings, such as the type ids, are written once per value and back-referenced.
+ * -> Values larger than the compression threshold are deflated when that actually makes them smaller.
+ * <p>
+ * Every value starts with a one byte header telling whether the payload is deflated, followed by the
+ * uncompressed length for deflated payloads.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+
+    private final ObjectMapper objectMapper;
+    private final int compressionThreshold;
+
+    public CompactRedisSerializer(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.objectMapper = new ObjectMapper(smileFactory)
+                .registerModule(new JavaTimeModule())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // Type ids are needed to read values back as Object, only our own and JDK types are accepted
+        this.objectMapper.activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.madeeasy.")
+                        .allowIfSubType("java.util.")
+                        .allowIfSubType("java.lang.")
+                        .allowIfSubType("java.time.")
+                        .allowIfSubType("org.springframework.http.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+
+        if (compressionThreshold >= 0 && payload.length > compressionThreshold) {
+            byte[] deflated = deflate(payload);
+            if (deflated.length + Integer.BYTES < payload.length) {
+                return ByteBuffer.allocate(1 + Integer.BYTES + deflated.length)
+                        .put(DEFLATED)
+                        .putInt(payload.length)
+                        .put(deflated)
+                        .array();
+            }
+        }
+        return ByteBuffer.allocate(1 + payload.length)
+                .put(PLAIN)
+                .put(payload)
+                .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte header = buffer.get();
+            byte[] payload;
+            if (header == DEFLATED) {
+                int length = buffer.getInt();
+                payload = inflate(bytes, buffer.position(), length);
+            } else if (header == PLAIN) {
+                payload = new byte[buffer.remaining()];
+                buffer.get(payload);
+            } else {
+                throw new SerializationException("Unknown cache value header : " + header);
+            }
+            return objectMapper.readValue(payload, Object.class);
+        } catch (SerializationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] deflate(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(payload.length / 2);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                output.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset, int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] payload = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int inflated = inflater.inflate(payload, read, length - read);
+                if (inflated == 0 && inflater.needsInput()) {
+                    throw new DataFormatException("Truncated cache value");
+                }
+                read += inflated;
+            }
+            return payload;
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.madeeasy.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.redis")
+public class RedisCacheProperties {
+    /**
+     * TTL of caches without an entry in {@link #caches}.
+     */
+    private Duration defaultTtl = Duration.ofMinutes(10);
+    /**
+     * Per cache name overrides, entries from configuration are merged into these defaults.
+     */
+    private Map<String, CacheSettings> caches = new LinkedHashMap<>(Map.of(
+            "user", new CacheSettings(Duration.ofMinutes(30), null)
+    ));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheSettings {
+        private Duration ttl;
+        /**
+         * Overrides {@code cache.serialization.format} for this cache only.
+         */
+        private CacheSerializationProperties.Format format;
+    }
+}